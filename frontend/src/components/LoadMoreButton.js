@@ -0,0 +1,18 @@
+import React from 'react';
+import { Button } from 'react-bootstrap';
+
+// Fetches the next page of a list; hidden once the last page is loaded
+const LoadMoreButton = ({ hasMore, loading, onClick }) => {
+  if (!hasMore) {
+    return null;
+  }
+  return (
+    <div className="text-center mb-3">
+      <Button variant="outline-secondary" onClick={onClick} disabled={loading}>
+        {loading ? 'Loading...' : 'Load more'}
+      </Button>
+    </div>
+  );
+};
+
+export default LoadMoreButton;
@@ -6,6 +6,8 @@ import { useAuth } from '../context/AuthContext';
 const RequestFormModal = ({ show, onHide, onSuccess, assets }) => {
   const { user } = useAuth();
   const [selectedAssetId, setSelectedAssetId] = useState('');
+  const [startTime, setStartTime] = useState('');
+  const [endTime, setEndTime] = useState('');
   const [error, setError] = useState('');
   const [loading, setLoading] = useState(false);
 
@@ -17,6 +19,12 @@ const RequestFormModal = ({ show, onHide, onSuccess, assets }) => {
       return;
     }
 
+    // The window is optional; without one the request holds a unit until it is returned
+    if (Boolean(startTime) !== Boolean(endTime) || (startTime && new Date(endTime) <= new Date(startTime))) {
+      setError('Set both a start and an end time, with the end after the start, or leave both empty');
+      return;
+    }
+
     setError('');
     setLoading(true);
 
@@ -27,10 +35,14 @@ const RequestFormModal = ({ show, onHide, onSuccess, assets }) => {
         asset: { id: parseInt(selectedAssetId) },
         status: 'PENDING',
         requestDate: new Date().toISOString(),
+        startTime: startTime ? new Date(startTime).toISOString() : null,
+        endTime: endTime ? new Date(endTime).toISOString() : null,
       };
 
       await requestAPI.create(requestData);
       setSelectedAssetId('');
+      setStartTime('');
+      setEndTime('');
       onSuccess();
     } catch (err) {
       setError(err.response?.data || 'Failed to create request. Make sure the asset and user exist.');
@@ -41,6 +53,8 @@ const RequestFormModal = ({ show, onHide, onSuccess, assets }) => {
 
   const handleClose = () => {
     setSelectedAssetId('');
+    setStartTime('');
+    setEndTime('');
     setError('');
     onHide();
   };
@@ -75,6 +89,25 @@ const RequestFormModal = ({ show, onHide, onSuccess, assets }) => {
             )}
           </Form.Group>
 
+          <Form.Group className="mb-3">
+            <Form.Label>Booking Window (optional)</Form.Label>
+            <div className="d-flex gap-2">
+              <Form.Control
+                type="datetime-local"
+                value={startTime}
+                onChange={(e) => setStartTime(e.target.value)}
+              />
+              <Form.Control
+                type="datetime-local"
+                value={endTime}
+                onChange={(e) => setEndTime(e.target.value)}
+              />
+            </div>
+            <Form.Text className="text-muted">
+              Leave empty to keep the asset until you return it
+            </Form.Text>
+          </Form.Group>
+
           <Alert variant="info">
             <small>
               Your request will be submitted with status <strong>PENDING</strong> and will be reviewed by an administrator.
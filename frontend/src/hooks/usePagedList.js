@@ -0,0 +1,46 @@
+import { useState, useCallback, useRef } from 'react';
+
+// Keyset-paged list state: reload() fetches the first page, loadMore() appends the next one.
+// fetchPage(after) resolves to { data, next }, where next is null after the last page. Both
+// functions reject on failure, so the page shows its own error message.
+const usePagedList = (fetchPage) => {
+  const [items, setItems] = useState([]);
+  const [next, setNext] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  // Bumped by reload(), so a page requested before it is dropped when it arrives
+  const generation = useRef(0);
+
+  const reload = useCallback(async () => {
+    const current = ++generation.current;
+    const page = await fetchPage();
+    if (current === generation.current) {
+      setItems(page.data);
+      setNext(page.next);
+    }
+  }, [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (next == null) {
+      return;
+    }
+    const current = generation.current;
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(next);
+      if (current === generation.current) {
+        // A live event may already have added a row from this page
+        setItems((loaded) => {
+          const ids = new Set(loaded.map((item) => item.id));
+          return [...loaded, ...page.data.filter((item) => !ids.has(item.id))];
+        });
+        setNext(page.next);
+      }
+    } finally {
+      setLoadingMore(false);
+    }
+  }, [fetchPage, next]);
+
+  return { items, setItems, hasMore: next != null, loadingMore, reload, loadMore };
+};
+
+export default usePagedList;
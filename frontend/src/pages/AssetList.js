@@ -1,19 +1,24 @@
 import React, { useState, useEffect, useCallback } from 'react';
 import { Table, Button, Badge, Form, Row, Col, Alert, Modal } from 'react-bootstrap';
-import { assetAPI } from '../services/api';
+import { assetAPI, subscribeToChanges, applyAssetChange } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { FaPlus, FaEdit, FaTrash, FaFilter } from 'react-icons/fa';
 import AssetFormModal from '../components/AssetFormModal';
+import LoadMoreButton from '../components/LoadMoreButton';
+import usePagedList from '../hooks/usePagedList';
 
 const AssetList = () => {
   const { isAdmin } = useAuth();
-  const [assets, setAssets] = useState([]);
+  const {
+    items: assets, setItems: setAssets, hasMore, loadingMore, reload, loadMore,
+  } = usePagedList(assetAPI.getPage);
   const [filteredAssets, setFilteredAssets] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [success, setSuccess] = useState('');
   const [filterStatus, setFilterStatus] = useState('ALL');
   const [searchTerm, setSearchTerm] = useState('');
+  const [searchResults, setSearchResults] = useState(null);
   
   // Modal states
   const [showFormModal, setShowFormModal] = useState(false);
@@ -25,25 +30,37 @@ const AssetList = () => {
     fetchAssets();
   }, []);
 
+  // Apply changes made elsewhere as they happen instead of re-fetching the list
+  useEffect(() => subscribeToChanges({
+    onAsset: (event) => setAssets((current) => applyAssetChange(current, event)),
+    onReconnect: () => fetchAssets(),
+  }), []);
+
+  // Text search runs on the server index, debounced while typing
+  useEffect(() => {
+    if (!searchTerm.trim()) {
+      setSearchResults(null);
+      return undefined;
+    }
+    const timer = setTimeout(() => {
+      const status = filterStatus !== 'ALL' ? filterStatus : undefined;
+      assetAPI.search({ q: searchTerm, status, fuzzy: true, limit: 500 })
+        .then(({ data }) => setSearchResults(data))
+        .catch((err) => console.error(err));
+    }, 250);
+    return () => clearTimeout(timer);
+  }, [searchTerm, filterStatus]);
+
   const filterAssets = useCallback(() => {
-    let filtered = assets;
+    let filtered = searchResults ?? assets;
 
     // Filter by status
     if (filterStatus !== 'ALL') {
       filtered = filtered.filter((asset) => asset.status === filterStatus);
     }
 
-    // Filter by search term
-    if (searchTerm) {
-      filtered = filtered.filter(
-        (asset) =>
-          asset.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-          asset.description.toLowerCase().includes(searchTerm.toLowerCase())
-      );
-    }
-
     setFilteredAssets(filtered);
-  }, [assets, filterStatus, searchTerm]);
+  }, [assets, searchResults, filterStatus]);
 
   useEffect(() => {
     filterAssets();
@@ -52,8 +69,7 @@ const AssetList = () => {
   const fetchAssets = async () => {
     try {
       setLoading(true);
-      const response = await assetAPI.getAll();
-      setAssets(response.data);
+      await reload();
       setError('');
     } catch (err) {
       setError('Failed to load assets');
@@ -63,7 +79,14 @@ const AssetList = () => {
     }
   };
 
-  
+  const handleLoadMore = async () => {
+    try {
+      await loadMore();
+    } catch (err) {
+      setError('Failed to load more assets');
+      console.error(err);
+    }
+  };
 
   const handleAddAsset = () => {
     setSelectedAsset(null);
@@ -155,7 +178,7 @@ const AssetList = () => {
             <Form.Label>Search</Form.Label>
             <Form.Control
               type="text"
-              placeholder="Search by name or description..."
+              placeholder="Search by name or type..."
               value={searchTerm}
               onChange={(e) => setSearchTerm(e.target.value)}
             />
@@ -210,6 +233,8 @@ const AssetList = () => {
           </tbody>
         </Table>
       )}
+      {/* Search results come from the index in one response; only the full list is paged */}
+      {!searchResults && <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={handleLoadMore} />}
 
       {/* Asset Form Modal */}
       <AssetFormModal
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Card, Row, Col, Alert } from 'react-bootstrap';
 import { useAuth } from '../context/AuthContext';
-import { assetAPI, requestAPI, userAPI } from '../services/api';
+import { statsAPI } from '../services/api';
 import { FaBox, FaClipboardList, FaUsers, FaCheckCircle } from 'react-icons/fa';
 
 const Dashboard = () => {
@@ -20,28 +20,15 @@ const Dashboard = () => {
     const fetchDashboardData = async () => {
       try {
         setLoading(true);
-        const [assetsRes, requestsRes] = await Promise.all([
-          assetAPI.getAll(),
-          requestAPI.getAll(),
-        ]);
-
-        const assets = assetsRes.data;
-        const requests = requestsRes.data;
-
-        const newStats = {
-          totalAssets: assets.length,
-          availableAssets: assets.filter((a) => a.status === 'AVAILABLE').length,
-          totalRequests: requests.length,
-          pendingRequests: requests.filter((r) => r.status === 'PENDING').length,
-        };
-
-        // Fetch user count only for admins
-        if (isAdmin()) {
-          const usersRes = await userAPI.getAll();
-          newStats.totalUsers = usersRes.data.length;
-        }
-
-        setStats(newStats);
+        const { data } = await statsAPI.get();
+
+        setStats({
+          totalAssets: data.totalAssets,
+          availableAssets: data.assetsByStatus.AVAILABLE || 0,
+          totalRequests: data.totalRequests,
+          pendingRequests: data.requestsByStatus.PENDING || 0,
+          totalUsers: data.totalUsers,
+        });
         setError('');
       } catch (err) {
         setError('Failed to load dashboard data');
@@ -52,7 +39,7 @@ const Dashboard = () => {
     };
 
     fetchDashboardData();
-  }, [isAdmin]);
+  }, []);
 
   if (loading) {
     return (
@@ -1,16 +1,19 @@
 import React, { useState, useEffect, useCallback } from 'react';
 import { Table, Button, Badge, Form, Row, Col, Alert, Modal } from 'react-bootstrap';
-import { requestAPI, assetAPI, userAPI } from '../services/api';
+import { requestAPI, assetAPI, subscribeToChanges, applyAssetChange } from '../services/api';
 import { useAuth } from '../context/AuthContext';
 import { FaPlus, FaEdit, FaTrash, FaFilter } from 'react-icons/fa';
 import RequestFormModal from '../components/RequestFormModal';
+import LoadMoreButton from '../components/LoadMoreButton';
+import usePagedList from '../hooks/usePagedList';
 
 const RequestList = () => {
   const { isAdmin } = useAuth();
-  const [requests, setRequests] = useState([]);
+  const {
+    items: requests, setItems: setRequests, hasMore, loadingMore, reload, loadMore,
+  } = usePagedList(requestAPI.getPage);
   const [filteredRequests, setFilteredRequests] = useState([]);
   const [assets, setAssets] = useState([]);
-  const [users, setUsers] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
   const [success, setSuccess] = useState('');
@@ -27,17 +30,10 @@ const RequestList = () => {
   const fetchData = useCallback(async () => {
     try {
       setLoading(true);
-      const requestsRes = await requestAPI.getAll();
-      const assetsRes = await assetAPI.getAll();
-      
-      setRequests(requestsRes.data);
+      // The form only offers available assets, so only those are loaded
+      const [, assetsRes] = await Promise.all([reload(), assetAPI.getByStatus('AVAILABLE')]);
       setAssets(assetsRes.data);
 
-      if (isAdmin()) {
-        const usersRes = await userAPI.getAll();
-        setUsers(usersRes.data);
-      }
-
       setError('');
     } catch (err) {
       setError('Failed to load data');
@@ -45,7 +41,16 @@ const RequestList = () => {
     } finally {
       setLoading(false);
     }
-  }, [isAdmin]);
+  }, [reload]);
+
+  const handleLoadMore = async () => {
+    try {
+      await loadMore();
+    } catch (err) {
+      setError('Failed to load more requests');
+      console.error(err);
+    }
+  };
 
   const filterRequests = useCallback(() => {
     let filtered = requests;
@@ -65,6 +70,30 @@ const RequestList = () => {
     filterRequests();
   }, [filterRequests]);
 
+  // The server only sends students their own requests; admins get all of them
+  useEffect(() => subscribeToChanges({
+    onRequest: (event) => {
+      if (event.toStatus === 'DELETED') {
+        setRequests((current) => current.filter((r) => r.id !== event.requestId));
+      } else if (event.fromStatus === null) {
+        // New request: fetch its summary for the user and asset names
+        requestAPI.getById(event.requestId)
+          .then(({ data }) => setRequests((current) => (
+            current.some((r) => r.id === data.id) ? current : [...current, data]
+          )))
+          .catch((err) => console.error(err));
+      } else {
+        setRequests((current) => current.map((r) => (
+          r.id === event.requestId
+            ? { ...r, status: event.toStatus, comments: event.comments ?? r.comments }
+            : r
+        )));
+      }
+    },
+    onAsset: (event) => setAssets((current) => applyAssetChange(current, event)),
+    onReconnect: fetchData,
+  }), [fetchData]);
+
   
 
   const handleCreateRequest = () => {
@@ -124,19 +153,6 @@ const RequestList = () => {
     return <Badge bg={variants[status] || 'secondary'}>{status}</Badge>;
   };
 
-  const getAssetName = (assetId) => {
-    const asset = assets.find((a) => a.id === assetId);
-    return asset ? asset.name : `Asset #${assetId}`;
-  };
-
-  const getUserName = (userId) => {
-    if (isAdmin() && users.length > 0) {
-      const userObj = users.find((u) => u.id === userId);
-      return userObj ? userObj.username : `User #${userId}`;
-    }
-    return `User #${userId}`;
-  };
-
   if (loading) {
     return (
       <div className="text-center mt-5">
@@ -193,6 +209,7 @@ const RequestList = () => {
               {isAdmin() && <th>User</th>}
               <th>Asset</th>
               <th>Request Date</th>
+              <th>Window</th>
               <th>Status</th>
               <th>Actions</th>
             </tr>
@@ -201,9 +218,14 @@ const RequestList = () => {
             {filteredRequests.map((request) => (
               <tr key={request.id}>
                 <td>{request.id}</td>
-                {isAdmin() && <td>{getUserName(request.user?.id)}</td>}
-                <td>{getAssetName(request.asset?.id)}</td>
+                {isAdmin() && <td>{request.username || `User #${request.userId}`}</td>}
+                <td>{request.assetName || `Asset #${request.assetId}`}</td>
                 <td>{new Date(request.requestDate).toLocaleDateString()}</td>
+                <td>
+                  {request.startTime
+                    ? `${new Date(request.startTime).toLocaleString()} – ${new Date(request.endTime).toLocaleString()}`
+                    : 'Open-ended'}
+                </td>
                 <td>{getStatusBadge(request.status)}</td>
                 <td>
                   {isAdmin() && (
@@ -229,6 +251,7 @@ const RequestList = () => {
           </tbody>
         </Table>
       )}
+      <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={handleLoadMore} />
 
       {/* Request Form Modal */}
       <RequestFormModal
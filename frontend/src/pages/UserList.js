@@ -2,9 +2,11 @@ import React, { useState, useEffect, useCallback } from 'react';
 import { Table, Button, Badge, Alert, Modal, Form } from 'react-bootstrap';
 import { userAPI } from '../services/api';
 import { FaTrash, FaSearch } from 'react-icons/fa';
+import LoadMoreButton from '../components/LoadMoreButton';
+import usePagedList from '../hooks/usePagedList';
 
 const UserList = () => {
-  const [users, setUsers] = useState([]);
+  const { items: users, hasMore, loadingMore, reload, loadMore } = usePagedList(userAPI.getPage);
   const [filteredUsers, setFilteredUsers] = useState([]);
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState('');
@@ -19,8 +21,7 @@ const UserList = () => {
   const fetchUsers = useCallback(async () => {
     try {
       setLoading(true);
-      const response = await userAPI.getAll();
-      setUsers(response.data);
+      await reload();
       setError('');
     } catch (err) {
       setError('Failed to load users');
@@ -28,7 +29,16 @@ const UserList = () => {
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [reload]);
+
+  const handleLoadMore = async () => {
+    try {
+      await loadMore();
+    } catch (err) {
+      setError('Failed to load more users');
+      console.error(err);
+    }
+  };
 
   const filterUsers = useCallback(() => {
     if (searchTerm) {
@@ -161,6 +171,7 @@ const UserList = () => {
           </tbody>
         </Table>
       )}
+      <LoadMoreButton hasMore={hasMore} loading={loadingMore} onClick={handleLoadMore} />
 
       {/* Delete Confirmation Modal */}
       <Modal show={showDeleteModal} onHide={() => setShowDeleteModal(false)}>
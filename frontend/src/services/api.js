@@ -38,6 +38,15 @@ api.interceptors.response.use(
   }
 );
 
+// List endpoints are keyset-paged. Pages are fetched one at a time as the user asks for more;
+// X-Next-Cursor is the `after` of the next page and is absent on the last one
+const PAGE_LIMIT = 100;
+
+const fetchPage = async (path, after) => {
+  const response = await api.get(path, { params: { after, limit: PAGE_LIMIT } });
+  return { data: response.data, next: response.headers['x-next-cursor'] ?? null };
+};
+
 // Authentication APIs
 export const authAPI = {
   register: (userData) => api.post('/auth/register', userData),
@@ -46,9 +55,10 @@ export const authAPI = {
 
 // Asset APIs
 export const assetAPI = {
-  getAll: () => api.get('/assets'),
+  getPage: (after) => fetchPage('/assets', after),
   getById: (id) => api.get(`/assets/${id}`),
   getByStatus: (status) => api.get(`/assets/status/${status}`),
+  search: (params) => api.get('/assets/search', { params }),
   create: (assetData) => api.post('/assets', assetData),
   update: (id, assetData) => api.put(`/assets/${id}`, assetData),
   delete: (id) => api.delete(`/assets/${id}`),
@@ -56,7 +66,7 @@ export const assetAPI = {
 
 // Request APIs
 export const requestAPI = {
-  getAll: () => api.get('/requests'),
+  getPage: (after) => fetchPage('/requests', after),
   getById: (id) => api.get(`/requests/${id}`),
   getByStatus: (status) => api.get(`/requests/status/${status}`),
   getByUserId: (userId) => api.get(`/requests/user/${userId}`),
@@ -67,10 +77,88 @@ export const requestAPI = {
 
 // User APIs
 export const userAPI = {
-  getAll: () => api.get('/users'),
+  getPage: (after) => fetchPage('/users', after),
   getById: (id) => api.get(`/users/${id}`),
   getByUsername: (username) => api.get(`/users/username/${username}`),
   delete: (id) => api.delete(`/users/${id}`),
 };
 
+// Dashboard APIs
+export const statsAPI = {
+  get: () => api.get('/stats'),
+};
+
+// Live request/asset changes over server-sent events. EventSource cannot send headers, so each
+// connection is opened with a single-use ticket fetched with the login token. A used ticket cannot
+// reopen the stream, so after a drop this fetches a new ticket and reconnects itself; events sent
+// while disconnected are lost, so onReconnect should reload the page's data.
+export const subscribeToChanges = ({ onRequest, onAsset, onReconnect }) => {
+  let source = null;
+  let retry = null;
+  let closed = false;
+  let opened = false;
+
+  const reconnectLater = () => {
+    if (!closed) {
+      retry = setTimeout(connect, 3000);
+    }
+  };
+
+  const connect = async () => {
+    let ticket;
+    try {
+      ({ ticket } = (await api.post('/events/ticket')).data);
+    } catch {
+      reconnectLater();
+      return;
+    }
+    if (closed) {
+      return;
+    }
+    source = new EventSource(`${API_BASE_URL}/events?ticket=${encodeURIComponent(ticket)}`);
+    source.onopen = () => {
+      if (opened && onReconnect) {
+        onReconnect();
+      }
+      opened = true;
+    };
+    source.onerror = () => {
+      source.close();
+      reconnectLater();
+    };
+    if (onRequest) {
+      source.addEventListener('request', (e) => onRequest(JSON.parse(e.data)));
+    }
+    if (onAsset) {
+      source.addEventListener('asset', (e) => onAsset(JSON.parse(e.data)));
+    }
+  };
+
+  connect();
+  return () => {
+    closed = true;
+    clearTimeout(retry);
+    if (source) {
+      source.close();
+    }
+  };
+};
+
+// Applies an asset change event to a list of assets
+export const applyAssetChange = (assets, event) => {
+  if (event.change === 'DELETED') {
+    return assets.filter((a) => a.id !== event.id);
+  }
+  const asset = {
+    id: event.id,
+    name: event.name,
+    type: event.type,
+    quantity: event.quantity,
+    status: event.status,
+  };
+  return assets.some((a) => a.id === asset.id)
+    ? assets.map((a) => (a.id === asset.id ? { ...a, ...asset } : a))
+    : [...assets, asset];
+};
+
 export default api;
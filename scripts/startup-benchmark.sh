@@ -0,0 +1,89 @@
+#!/usr/bin/env bash
+# Time-to-first-request and resident memory of the packaged application, before and after the startup work:
+#   baseline   java -jar on the repackaged jar, default profile (eager beans, no AOT, no CDS)
+#   optimized  extracted jar + CDS archive + AOT + production profile (lazy beans)
+# Both run against in-memory H2, so no MySQL is needed. Build first:
+#   ./mvnw -Pproduction package -DskipTests
+#   RUNS=10 scripts/startup-benchmark.sh
+# Time-to-first-request is measured from process launch to the first HTTP answer on /actuator/health.
+# The management server keeps its own port: the AOT build fixes it as a separate context, so it cannot be
+# folded onto the application port at run time.
+# RSS is read right after that answer. Medians over RUNS go to target/startup-benchmark.json.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+MANAGEMENT_PORT=${MANAGEMENT_PORT:-$((PORT + 1))}
+JAR=$(ls target/*.jar | grep -v '\.original$' | head -n 1)
+APP_JAR=target/app/$(basename "$JAR")
+ARCHIVE=target/app/application.jsa
+
+if [[ ! -f "$APP_JAR" || ! -f "$ARCHIVE" ]]; then
+    echo "Missing $APP_JAR or $ARCHIVE; run ./mvnw -Pproduction package -DskipTests first" >&2
+    exit 1
+fi
+
+COMMON=(
+    "-Dserver.port=$PORT"
+    "-Dmanagement.server.port=$MANAGEMENT_PORT"
+    "-Dspring.datasource.url=jdbc:h2:mem:startup;NON_KEYWORDS=USER,VALUE"
+    "-Dspring.datasource.username=sa"
+    "-Dspring.datasource.password="
+    "-Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+    "-Dlogging.level.root=WARN"
+)
+
+now_ms() {
+    python3 -c 'import time; print(int(time.time() * 1000))'
+}
+
+# Prints "<milliseconds to first response> <rss in KiB>" for one launch
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    java "${COMMON[@]}" "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -s -o /dev/null "http://localhost:$MANAGEMENT_PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before answering; rerun without -Dlogging.level.root=WARN to see why" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ values[NR] = $1 } END { print (NR % 2) ? values[(NR + 1) / 2] : int((values[NR / 2] + values[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local name=$1
+    shift
+    local results=() result
+    for ((i = 1; i <= RUNS; i++)); do
+        # measure runs in a subshell, so its exit only ends the substitution
+        result=$(measure "$@") || exit 1
+        results+=("$result")
+        echo "$name run $i: $result" >&2
+    done
+    local ttfr rss
+    ttfr=$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)
+    rss=$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)
+    printf '"%s": { "timeToFirstRequestMs": %s, "rssKiB": %s }' "$name" "$ttfr" "$rss"
+}
+
+baseline=$(run_mode baseline -jar "$JAR")
+optimized=$(run_mode optimized \
+    "-XX:SharedArchiveFile=$ARCHIVE" \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=production \
+    -jar "$APP_JAR")
+
+mkdir -p target
+printf '{ "runs": %s, %s, %s }\n' "$RUNS" "$baseline" "$optimized" | tee target/startup-benchmark.json
@@ -0,0 +1,98 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.AssetSearchHit;
+import com.surya.Campus_Asset_Manager.Service.AssetSearchIndex;
+
+/**
+ * Lookups against the in-memory asset index. Names combine a brand, a model word and a numeric
+ * suffix, so selective queries ("thinkpad 4711") and broad ones ("lap", "laptop") are both represented.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AssetSearchBenchmark {
+
+    private static final String[] BRANDS = {"Dell", "Lenovo", "HP", "Apple", "Epson", "Canon", "Sony", "Zeiss"};
+    private static final String[] MODELS = {"Laptop", "ThinkPad", "Projector", "Camera", "Tablet", "Microscope",
+        "Monitor", "Speaker", "Tripod", "Printer"};
+    private static final String[] TYPES = {"Electronics", "Lab", "Furniture", "AV"};
+    private static final String[] STATUSES = {"AVAILABLE", "AVAILABLE", "RESERVED", "MAINTENANCE"};
+
+    @Param({"1000000"})
+    int assets;
+
+    private AssetSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new AssetSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        SplittableRandom random = new SplittableRandom(11);
+        for (long id = 1; id <= assets; id++) {
+            String name = BRANDS[random.nextInt(BRANDS.length)] + " " + MODELS[random.nextInt(MODELS.length)]
+                + " " + random.nextInt(10_000);
+            index.onAssetChanged(new AssetChangedEvent("CREATED", id, name, TYPES[random.nextInt(TYPES.length)],
+                random.nextInt(1, 20), STATUSES[random.nextInt(STATUSES.length)], null));
+        }
+    }
+
+    @Benchmark
+    public List<AssetSearchHit> selectiveExact() {
+        return index.search("thinkpad 4711", null, null, false, 50);
+    }
+
+    @Benchmark
+    public List<AssetSearchHit> selectivePrefixWithStatus() {
+        return index.search("zeiss micro 47", "AVAILABLE", null, false, 50);
+    }
+
+    @Benchmark
+    public List<AssetSearchHit> selectiveFuzzy() {
+        return index.search("thinkpda 4711", null, null, true, 50);
+    }
+
+    @Benchmark
+    public List<AssetSearchHit> broadPrefix() {
+        return index.search("lap", null, null, false, 50);
+    }
+
+    // About 100k assets contain "laptop"; half of them are available
+    @Benchmark
+    public List<AssetSearchHit> broadExactWithStatus() {
+        return index.search("laptop", "AVAILABLE", null, false, 50);
+    }
+
+    // Expands to every term starting with "t" (thinkpad, tablet, tripod) across about 300k assets
+    @Benchmark
+    public List<AssetSearchHit> broadShortPrefix() {
+        return index.search("t", null, null, false, 50);
+    }
+
+    // No asset has two model words, so every "laptop" asset is scored and none can be skipped
+    @Benchmark
+    public List<AssetSearchHit> broadWithoutMatches() {
+        return index.search("laptop tablet", null, null, false, 50);
+    }
+}
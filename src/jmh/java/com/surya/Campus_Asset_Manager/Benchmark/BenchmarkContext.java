@@ -0,0 +1,24 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.surya.Campus_Asset_Manager.CampusAssetManagerApplication;
+
+// Boots the application without a web server on the test profile, against a private in-memory H2 database
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String database) {
+        return new SpringApplicationBuilder(CampusAssetManagerApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("test")
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE",
+                "logging.level.root=WARN")
+            .run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.surya.Campus_Asset_Manager.Security.JwtAuthenticationFilter;
+import com.surya.Campus_Asset_Manager.Security.JwtTokenProvider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Per-request JWT work in the authentication filter: signing, the original three-parse
+ * validation, a single verified parse, a claims-cache hit and role-to-authority mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "BENCHMARK_SECRET_KEY_THAT_IS_LONG_ENOUGH_FOR_HS512_SIGNATURES_0123456789";
+
+    @Param({"STUDENT", "ADMIN,STUDENT"})
+    String role;
+
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedProvider = provider(0);
+        cachedProvider = provider(10_000);
+        token = cachedProvider.generateToken("student1", role, 42L);
+        cachedProvider.parseClaims(token);
+    }
+
+    private static JwtTokenProvider provider(int claimsCacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheSize", claimsCacheSize);
+        ReflectionTestUtils.setField(provider, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedProvider.generateToken("student1", role, 42L);
+    }
+
+    // validateToken, getUsernameFromToken and getRoleFromToken as the filter originally called
+    // them: a fresh key and parser plus a full signature check on every call
+    @Benchmark
+    public void legacyThreeParses(Blackhole bh) {
+        bh.consume(legacyParse().getExpiration());
+        bh.consume(legacyParse().getSubject());
+        bh.consume(legacyParse().get("role", String.class));
+    }
+
+    private Claims legacyParse() {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims singleVerifiedParse() {
+        return uncachedProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims claimsCacheHit() {
+        return cachedProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> roleToAuthorities() {
+        return JwtAuthenticationFilter.toAuthorities(role);
+    }
+}
@@ -0,0 +1,75 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Model.Role;
+import com.surya.Campus_Asset_Manager.Model.User;
+
+/**
+ * Jackson cost of a request listing page: full entities, where every request carries its
+ * user and asset, against the flat summaries the endpoints return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestSerializationBenchmark {
+
+    @Param({"100", "500"})
+    int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<Request> requests;
+    private List<RequestSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        // Same defaults as the mapper Spring MVC uses for responses
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= SyntheticData.USERS; id++) {
+            users.add(new User(id, "user" + id, "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3jQ8e2J1ZC1Ok5rBqE5r6Gy", Role.STUDENT));
+        }
+        requests = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            Asset asset = new Asset(id, "Asset " + id, "Laptop", 5, "AVAILABLE", 0);
+            requests.add(new Request(id, users.get((int) (id % users.size())), asset, "PENDING",
+                "Needed for the lab session", new Date(), null, null, 0, null));
+        }
+        summaries = requests.stream().map(RequestSummary::of).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(requests);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaries);
+    }
+}
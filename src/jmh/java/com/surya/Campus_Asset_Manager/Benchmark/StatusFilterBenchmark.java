@@ -0,0 +1,99 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Status lookups: the original load-everything-then-filter-in-Java path against the
+ * indexed repository query the services use now. The original Request mapped user and asset
+ * EAGER, so its arm loads both with every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatusFilterBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    private ConfigurableApplicationContext context;
+    private AssetRepository assetRepository;
+    private RequestRepository requestRepository;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("status_filter");
+        SyntheticData.seed(context.getBean(JdbcTemplate.class), rows);
+        assetRepository = context.getBean(AssetRepository.class);
+        requestRepository = context.getBean(RequestRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Asset> assetsFilteredInMemory() {
+        return assetRepository.findAll().stream()
+            .filter(asset -> asset.getStatus().equalsIgnoreCase("available"))
+            .toList();
+    }
+
+    @Benchmark
+    public List<Asset> assetsByIndexedQuery() {
+        return assetRepository.findByStatus("AVAILABLE");
+    }
+
+    @Benchmark
+    public List<Request> requestsFilteredInMemory() {
+        // Outer joins, as for the optional EAGER associations; requestRepository.findAll() now leaves them unloaded
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager
+                .createQuery("select r from Request r left join fetch r.user left join fetch r.asset", Request.class)
+                .getResultList().stream()
+                .filter(request -> request.getStatus().equalsIgnoreCase("pending"))
+                .toList();
+        }
+    }
+
+    @Benchmark
+    public List<Request> requestsByIndexedQuery() {
+        return requestRepository.findByStatus("PENDING");
+    }
+
+    @Benchmark
+    public List<RequestSummary> requestSummariesByIndexedQuery() {
+        return requestRepository.findSummariesByStatus("PENDING");
+    }
+}
@@ -0,0 +1,56 @@
+package com.surya.Campus_Asset_Manager.Benchmark;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Bulk-loads assets, users and requests over plain JDBC so seeding a million rows stays out of the measured path
+final class SyntheticData {
+
+    static final int USERS = 100;
+    // Requests point at a bounded set of assets, as on a real campus where many requests share an asset
+    static final int REQUESTED_ASSETS = 1000;
+
+    private static final String[] ASSET_STATUSES = {"AVAILABLE", "AVAILABLE", "AVAILABLE", "AVAILABLE", "AVAILABLE",
+        "AVAILABLE", "RESERVED", "RESERVED", "RESERVED", "MAINTENANCE"};
+    private static final String[] REQUEST_STATUSES = {"PENDING", "PENDING", "APPROVED", "APPROVED", "APPROVED",
+        "APPROVED", "APPROVED", "REJECTED", "REJECTED", "REJECTED"};
+    private static final int BATCH = 5000;
+
+    private SyntheticData() {
+    }
+
+    static void seed(JdbcTemplate jdbc, int rows) {
+        SplittableRandom random = new SplittableRandom(42);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[] {id, "user" + id, "{noop}secret", id == 1 ? "ADMIN" : "STUDENT"});
+        }
+        jdbc.batchUpdate("insert into user (id, username, password, role) values (?, ?, ?, ?)", users);
+
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[] {id, "Asset " + id, "Laptop", random.nextInt(1, 20),
+                ASSET_STATUSES[random.nextInt(ASSET_STATUSES.length)]});
+            if (batch.size() == BATCH || id == rows) {
+                jdbc.batchUpdate("insert into asset (id, name, type, quantity, status, version) values (?, ?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+
+        int requestedAssets = Math.min(rows, REQUESTED_ASSETS);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[] {id, random.nextLong(1, USERS + 1), random.nextLong(1, requestedAssets + 1),
+                REQUEST_STATUSES[random.nextInt(REQUEST_STATUSES.length)], now});
+            if (batch.size() == BATCH || id == rows) {
+                jdbc.batchUpdate("insert into asset_request (id, user_id, asset_id, status, request_date, version) values (?, ?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.surya.Campus_Asset_Manager.LoadTest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.Role;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+import com.surya.Campus_Asset_Manager.Repository.UserRepository;
+
+/**
+ * Seeds a synthetic campus through the JPA repositories: one admin plus N students,
+ * M assets and K requests spread over the last 90 days.
+ */
+public class CampusDataGenerator {
+
+    public static final String ADMIN_USERNAME = "loadtest-admin";
+    public static final String PASSWORD = "loadtest-password";
+
+    // Weighted status tables: 60% available / 30% reserved / 10% maintenance assets,
+    // 20% pending / 55% approved / 25% rejected requests
+    private static final String[] ASSET_STATUSES = {"AVAILABLE", "AVAILABLE", "AVAILABLE", "AVAILABLE", "AVAILABLE",
+        "AVAILABLE", "RESERVED", "RESERVED", "RESERVED", "MAINTENANCE"};
+    private static final String[] REQUEST_STATUSES = {"PENDING", "PENDING", "PENDING", "PENDING", "APPROVED",
+        "APPROVED", "APPROVED", "APPROVED", "APPROVED", "APPROVED", "APPROVED", "APPROVED", "APPROVED", "APPROVED",
+        "APPROVED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "REJECTED"};
+    private static final String[] ASSET_TYPES = {"Laptop", "Projector", "Camera", "Tablet", "Microscope", "Room"};
+    private static final int CHUNK = 1000;
+
+    private final UserRepository userRepository;
+    private final AssetRepository assetRepository;
+    private final RequestRepository requestRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    public record Campus(User admin, List<User> students, List<Asset> assets, List<Long> pendingRequestIds) {
+    }
+
+    public CampusDataGenerator(UserRepository userRepository, AssetRepository assetRepository,
+                               RequestRepository requestRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.assetRepository = assetRepository;
+        this.requestRepository = requestRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    public Campus seed(int users, int assets, int requests) {
+        // Every account shares one hash; BCrypt per seeded user would dominate setup time
+        String hash = passwordEncoder.encode(PASSWORD);
+
+        User admin = userRepository.save(new User(null, ADMIN_USERNAME, hash, Role.ADMIN));
+
+        List<User> students = new ArrayList<>(users);
+        List<User> userChunk = new ArrayList<>(CHUNK);
+        for (int i = 1; i <= users; i++) {
+            userChunk.add(new User(null, "student" + i, hash, Role.STUDENT));
+            if (userChunk.size() == CHUNK || i == users) {
+                students.addAll(userRepository.saveAll(userChunk));
+                userChunk.clear();
+            }
+        }
+
+        List<Asset> savedAssets = new ArrayList<>(assets);
+        List<Asset> assetChunk = new ArrayList<>(CHUNK);
+        for (int i = 1; i <= assets; i++) {
+            String type = ASSET_TYPES[random.nextInt(ASSET_TYPES.length)];
+            assetChunk.add(new Asset(null, type + " " + i, type, random.nextInt(1, 20),
+                ASSET_STATUSES[random.nextInt(ASSET_STATUSES.length)], 0));
+            if (assetChunk.size() == CHUNK || i == assets) {
+                savedAssets.addAll(assetRepository.saveAll(assetChunk));
+                assetChunk.clear();
+            }
+        }
+
+        List<Long> pending = new ArrayList<>();
+        List<Request> requestChunk = new ArrayList<>(CHUNK);
+        long now = System.currentTimeMillis();
+        for (int i = 1; i <= requests; i++) {
+            User user = students.get(random.nextInt(students.size()));
+            Asset asset = savedAssets.get(random.nextInt(savedAssets.size()));
+            Date requestDate = new Date(now - random.nextLong(TimeUnit.DAYS.toMillis(90)));
+            requestChunk.add(new Request(null, user, asset, REQUEST_STATUSES[random.nextInt(REQUEST_STATUSES.length)],
+                "Synthetic request " + i, requestDate, null, null, 0, null));
+            if (requestChunk.size() == CHUNK || i == requests) {
+                for (Request saved : requestRepository.saveAll(requestChunk)) {
+                    if ("PENDING".equals(saved.getStatus())) {
+                        pending.add(saved.getId());
+                    }
+                }
+                requestChunk.clear();
+            }
+        }
+
+        return new Campus(admin, students, savedAssets, pending);
+    }
+}
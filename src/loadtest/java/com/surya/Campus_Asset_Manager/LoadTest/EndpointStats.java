@@ -0,0 +1,62 @@
+package com.surya.Campus_Asset_Manager.LoadTest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency samples and status codes for one endpoint. Samples are kept raw so the
+ * percentiles in the report are exact rather than bucketed.
+ */
+class EndpointStats {
+
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private long errors;
+    private final Map<Integer, Long> statusCodes = new TreeMap<>();
+
+    synchronized void record(int status, long latencyNanos) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        statusCodes.merge(status, 1L, Long::sum);
+        // 409s are expected when approvals race for the last unit; only server errors and transport failures count
+        if (status <= 0 || status >= 500) {
+            errors++;
+        }
+    }
+
+    synchronized Map<String, Object> summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        Map<String, Object> latency = new TreeMap<>();
+        latency.put("mean", count == 0 ? 0 : millis(Arrays.stream(sorted).sum() / count));
+        latency.put("p50", percentile(sorted, 0.50));
+        latency.put("p90", percentile(sorted, 0.90));
+        latency.put("p95", percentile(sorted, 0.95));
+        latency.put("p99", percentile(sorted, 0.99));
+        latency.put("p999", percentile(sorted, 0.999));
+        latency.put("max", count == 0 ? 0 : millis(sorted[count - 1]));
+
+        Map<String, Object> summary = new TreeMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", Math.round(count / seconds * 10) / 10.0);
+        summary.put("statusCodes", new TreeMap<>(statusCodes));
+        summary.put("latencyMs", latency);
+        return summary;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return millis(sorted[Math.max(0, index)]);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -0,0 +1,271 @@
+package com.surya.Campus_Asset_Manager.LoadTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.surya.Campus_Asset_Manager.CampusAssetManagerApplication;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+import com.surya.Campus_Asset_Manager.Repository.UserRepository;
+import com.surya.Campus_Asset_Manager.Security.JwtTokenProvider;
+
+/**
+ * Boots the application on a random port against in-memory H2, seeds it with
+ * {@link CampusDataGenerator} and drives mixed login/list/create/approve traffic from
+ * concurrent clients. Per-endpoint throughput and latency percentiles are written as JSON.
+ *
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.clients=200 -Dloadtest.virtual-threads=true
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String LIST_ASSETS = "GET /api/assets";
+    private static final String GET_ASSET = "GET /api/assets/{id}";
+    private static final String MY_REQUESTS = "GET /api/requests/user/{userId}";
+    private static final String CREATE_REQUEST = "POST /api/requests";
+    private static final String APPROVE_REQUEST = "PATCH /api/requests/{id}/status";
+    private static final String SEARCH_ASSETS = "GET /api/assets/search";
+    private static final String AVAILABILITY = "GET /api/assets/availability";
+    private static final String[] SEARCH_TERMS = {"projector", "laptop", "camera", "microscope", "tablet"};
+
+    // Cumulative weights out of 100: login 5, list 30, get 15, my requests 15, create 15, approve 10,
+    // search 5, availability 5. The last two are answered from memory and need no database connection.
+    private static final int[] MIX = {5, 35, 50, 65, 80, 90, 95, 100};
+
+    private final int users = Integer.getInteger("loadtest.users", 1000);
+    private final int assets = Integer.getInteger("loadtest.assets", 5000);
+    private final int requests = Integer.getInteger("loadtest.requests", 50_000);
+    private final int clients = Integer.getInteger("loadtest.clients", 64);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+    private final boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+    private final Path reportPath = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final ConcurrentLinkedQueue<Long> pendingRequests = new ConcurrentLinkedQueue<>();
+
+    private String baseUrl;
+    private JwtTokenProvider tokenProvider;
+    private CampusDataGenerator.Campus campus;
+    private volatile boolean recording;
+    private volatile long deadline;
+
+    record Response(int status, String body) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    void run() throws Exception {
+        for (String endpoint : List.of(LOGIN, LIST_ASSETS, GET_ASSET, MY_REQUESTS, CREATE_REQUEST, APPROVE_REQUEST,
+                SEARCH_ASSETS, AVAILABILITY)) {
+            stats.put(endpoint, new EndpointStats());
+        }
+
+        try (ConfigurableApplicationContext context = start()) {
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            tokenProvider = context.getBean(JwtTokenProvider.class);
+
+            long seedStart = System.nanoTime();
+            campus = new CampusDataGenerator(context.getBean(UserRepository.class), context.getBean(AssetRepository.class),
+                context.getBean(RequestRepository.class), context.getBean(PasswordEncoder.class))
+                .seed(users, assets, requests);
+            List<Long> pending = new ArrayList<>(campus.pendingRequestIds());
+            Collections.shuffle(pending);
+            pendingRequests.addAll(pending);
+            System.out.printf("Seeded %d users, %d assets, %d requests in %d ms%n", users, assets, requests,
+                (System.nanoTime() - seedStart) / 1_000_000);
+
+            String adminToken = login(campus.admin().getUsername());
+            List<Thread> threads = new ArrayList<>(clients);
+            deadline = System.nanoTime() + Duration.ofSeconds(warmupSeconds + durationSeconds).toNanos();
+            for (int i = 0; i < clients; i++) {
+                User student = campus.students().get(i % campus.students().size());
+                threads.add(Thread.ofVirtual().name("loadtest-client-" + i).start(() -> drive(student, adminToken)));
+            }
+
+            Thread.sleep(Duration.ofSeconds(warmupSeconds));
+            recording = true;
+            long measuredStart = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            double measuredSeconds = (System.nanoTime() - measuredStart) / 1e9;
+
+            writeReport(measuredSeconds);
+        }
+    }
+
+    private ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CampusAssetManagerApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER,VALUE;LOCK_TIMEOUT=10000",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "management.server.port=0",
+                "logging.level.root=WARN")
+            .run();
+    }
+
+    private void drive(User student, String adminToken) {
+        // Clients start already signed in: a thousand simultaneous logins would only measure the BCrypt pool.
+        // Logins stay in the mix below.
+        String token = tokenProvider.generateToken(student.getUsername(), student.getRole().name(), student.getId());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            int roll = random.nextInt(100);
+            if (roll < MIX[0]) {
+                String refreshed = login(student.getUsername());
+                token = refreshed != null ? refreshed : token;
+            } else if (roll < MIX[1]) {
+                call(LIST_ASSETS, get("/api/assets?limit=100", token));
+            } else if (roll < MIX[2]) {
+                Asset asset = campus.assets().get(random.nextInt(campus.assets().size()));
+                call(GET_ASSET, get("/api/assets/" + asset.getId(), token));
+            } else if (roll < MIX[3]) {
+                call(MY_REQUESTS, get("/api/requests/user/" + student.getId() + "?size=20", token));
+            } else if (roll < MIX[4]) {
+                createRequest(student, token);
+            } else if (roll < MIX[5]) {
+                approveRequest(adminToken);
+            } else if (roll < MIX[6]) {
+                String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+                call(SEARCH_ASSETS, get("/api/assets/search?q=" + term + "&limit=20", token));
+            } else {
+                call(AVAILABILITY, get("/api/assets/availability?from=2030-03-01T09:00:00Z&to=2030-03-01T11:00:00Z&limit=50", token));
+            }
+        }
+    }
+
+    private String login(String username) {
+        Response response = call(LOGIN, post("/api/auth/login", null,
+            "{\"username\":\"" + username + "\",\"password\":\"" + CampusDataGenerator.PASSWORD + "\"}"));
+        return response.status() == 200 ? response.body() : null;
+    }
+
+    private void createRequest(User student, String token) {
+        Asset asset = campus.assets().get(ThreadLocalRandom.current().nextInt(campus.assets().size()));
+        Response response = call(CREATE_REQUEST, post("/api/requests", token,
+            "{\"user\":{\"id\":" + student.getId() + "},\"asset\":{\"id\":" + asset.getId() + "},\"comments\":\"load test\"}"));
+        if (response.status() == 200) {
+            try {
+                JsonNode created = objectMapper.readTree(response.body());
+                pendingRequests.add(created.get("id").asLong());
+            } catch (IOException e) {
+                // Not worth failing the run over; the request simply never gets approved
+            }
+        }
+    }
+
+    private void approveRequest(String adminToken) {
+        Long id = pendingRequests.poll();
+        if (id == null) {
+            return;
+        }
+        call(APPROVE_REQUEST, HttpRequest.newBuilder(URI.create(baseUrl + "/api/requests/" + id + "/status"))
+            .header("Authorization", "Bearer " + adminToken)
+            .header("Content-Type", "application/json")
+            .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"APPROVED\"}")));
+    }
+
+    private HttpRequest.Builder get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Authorization", "Bearer " + token)
+            .GET();
+    }
+
+    private HttpRequest.Builder post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Response call(String endpoint, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            HttpResponse<String> httpResponse = http.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+            response = new Response(httpResponse.statusCode(), httpResponse.body());
+        } catch (IOException e) {
+            response = new Response(0, e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response = new Response(0, e.toString());
+        }
+        if (recording) {
+            stats.get(endpoint).record(response.status(), System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private void writeReport(double seconds) throws IOException {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", users);
+        config.put("assets", assets);
+        config.put("requests", requests);
+        config.put("clients", clients);
+        config.put("warmupSeconds", warmupSeconds);
+        config.put("durationSeconds", durationSeconds);
+        config.put("virtualThreads", virtualThreads);
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            Map<String, Object> summary = entry.getValue().summarize(seconds);
+            total += ((Number) summary.get("requests")).longValue();
+            errors += ((Number) summary.get("errors")).longValue();
+            endpoints.put(entry.getKey(), summary);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("measuredSeconds", Math.round(seconds * 10) / 10.0);
+        report.put("totalRequests", total);
+        report.put("totalErrors", errors);
+        report.put("throughputPerSecond", Math.round(total / seconds * 10) / 10.0);
+        report.put("endpoints", endpoints);
+
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        System.out.printf("%d requests in %.1f s (%.1f/s, %d errors); report written to %s%n",
+            total, seconds, total / seconds, errors, reportPath.toAbsolutePath());
+    }
+}
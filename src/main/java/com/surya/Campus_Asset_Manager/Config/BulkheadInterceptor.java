@@ -0,0 +1,116 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Caps how many API requests that need a database connection run at once. With virtual threads the container
+// no longer does this, and an unbounded number of requests would queue on (and time out waiting for) the Hikari
+// pool. Handlers marked @WithoutConnection answer from memory and are admitted without a permit, so a burst
+// of database work never holds up search, availability or the event stream.
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Counter rejected;
+
+    public BulkheadInterceptor(int maxConcurrent, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.rejected = Counter.builder("campus.bulkhead.rejected").register(meterRegistry);
+        Gauge.builder("campus.bulkhead.available", permits, Semaphore::availablePermits).register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws IOException {
+        // An async request keeps the permit it took on its first dispatch; re-dispatches pass through
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !needsConnection(handler)) {
+            return true;
+        }
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", "1");
+            response.getWriter().write("Error: server busy, retry shortly");
+            return false;
+        }
+        request.setAttribute(PERMIT, new AtomicBoolean(true));
+        return true;
+    }
+
+    // The handler's work goes on after this thread returns: a streamed export keeps its connection until the
+    // last row is written. So the permit is held until the async exchange completes, however it ends.
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (request.getAttribute(PERMIT) instanceof AtomicBoolean held) {
+            request.getAsyncContext().addListener(new AsyncListener() {
+                @Override
+                public void onComplete(AsyncEvent event) {
+                    release(held);
+                }
+
+                @Override
+                public void onTimeout(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+        }
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        release(request);
+    }
+
+    // Also reached from the async re-dispatch once the handler is done, whichever comes first
+    private void release(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT) instanceof AtomicBoolean held) {
+            release(held);
+        }
+    }
+
+    private void release(AtomicBoolean held) {
+        if (held.compareAndSet(true, false)) {
+            permits.release();
+        }
+    }
+
+    // Anything that is not a controller method (say, a 404 for an unknown path) needs no connection either
+    private static boolean needsConnection(Object handler) {
+        return handler instanceof HandlerMethod method && !method.hasMethodAnnotation(WithoutConnection.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Read-through caches for the asset and user lookups. Set cache.enabled=false to go straight to the database.
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+
+    public static final String ASSETS = "assets";
+    public static final String USERS = "users";
+    public static final String USERS_BY_USERNAME = "usersByUsername";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.spec:maximumSize=10000,expireAfterWrite=10m}") String spec) {
+        CaffeineCacheManager caffeine = new CaffeineCacheManager(ASSETS, USERS, USERS_BY_USERNAME);
+        // recordStats feeds the cache.gets{result=hit|miss} and cache.evictions meters
+        caffeine.setCaffeine(Caffeine.from(spec).recordStats());
+        // Puts and evictions made inside a transaction only apply after it commits,
+        // so a rolled-back reservation can never leave a wrong quantity in the cache
+        return new TransactionAwareCacheManagerProxy(caffeine);
+    }
+}
@@ -0,0 +1,18 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Endpoint (http.server.requests), repository (spring.data.repository.invocations) and Hikari
+// (hikaricp.connections.*) timers are auto-configured; this adds @Timed support for the service layer.
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -0,0 +1,27 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.surya.Campus_Asset_Manager.Security.UserRevocationRegistry;
+import com.surya.Campus_Asset_Manager.Service.AssetSearchIndex;
+import com.surya.Campus_Asset_Manager.Service.AuditService;
+import com.surya.Campus_Asset_Manager.Service.AvailabilityService;
+import com.surya.Campus_Asset_Manager.Service.RequestIntakeQueue;
+
+// With spring.main.lazy-initialization=true (the production profile) beans are created on first use.
+// These stay eager: the in-memory indexes and the revocation list load in afterSingletonsInstantiated,
+// which never runs for a bean that was not created yet, and the audit and intake writers start their
+// threads (the intake queue also replays its journal) when constructed.
+@Configuration
+public class StartupConfig {
+
+    // Static, because the filter is read by a bean factory post-processor before regular beans exist
+    @Bean
+    static LazyInitializationExcludeFilter eagerServices() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AssetSearchIndex.class, AvailabilityService.class, AuditService.class, RequestIntakeQueue.class,
+                UserRevocationRegistry.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Active with spring.threads.virtual.enabled=true, which also moves Tomcat and @Async work onto virtual threads
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig implements WebMvcConfigurer {
+
+    private final BulkheadInterceptor bulkhead;
+
+    // Defaults to the Hikari pool size, so admitted requests never wait long for a connection
+    public VirtualThreadConfig(
+            @Value("${bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${bulkhead.acquire-timeout-ms:2000}") long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.bulkhead = new BulkheadInterceptor(maxConcurrent, acquireTimeoutMs, meterRegistry);
+    }
+
+    // Runs once the handler is known, so admission depends on what the endpoint does rather than its URL.
+    // By then the request has passed the JWT and rate-limit filters, neither of which touches the database.
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(bulkhead).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,15 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks a controller method that answers from in-memory state and never borrows a database connection.
+// BulkheadInterceptor admits such requests without a permit; only add it where that holds for every path.
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WithoutConnection {
+}
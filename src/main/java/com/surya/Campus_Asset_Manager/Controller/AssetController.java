@@ -1,8 +1,14 @@
 package com.surya.Campus_Asset_Manager.Controller;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,20 +17,90 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.surya.Campus_Asset_Manager.Config.WithoutConnection;
 import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.AssetSearchHit;
+import com.surya.Campus_Asset_Manager.Model.AvailableAsset;
+import com.surya.Campus_Asset_Manager.Model.Reservation;
+import com.surya.Campus_Asset_Manager.Service.AssetSearchIndex;
 import com.surya.Campus_Asset_Manager.Service.AssetService;
+import com.surya.Campus_Asset_Manager.Service.AvailabilityService;
+import com.surya.Campus_Asset_Manager.Service.ExportService;
 
 @RestController
 @RequestMapping("/api/assets")
 public class AssetController {
     @Autowired
     private AssetService assetService;
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private AssetSearchIndex assetSearchIndex;
+    @Autowired
+    private AvailabilityService availabilityService;
 
     @GetMapping
-    public List<Asset> getAllAssets() {
-        return assetService.getAllAssets();
+    public ResponseEntity<List<Asset>> getAllAssets(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(assetService.getAssetsAfter(after, pageSize + 1), pageSize, Asset::getId);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAssets() {
+        StreamingResponseBody body = exportService::writeAssets;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"assets.ndjson\"")
+                .body(body);
+    }
+
+    @WithoutConnection
+    @GetMapping("/search")
+    public ResponseEntity<List<AssetSearchHit>> searchAssets(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String type,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (q.isBlank() || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(assetSearchIndex.search(q, status, type, fuzzy, Paging.clamp(limit)));
+    }
+
+    // Assets with a unit free for the whole window, e.g. ?type=Projector&from=2025-03-01T09:00:00Z&to=2025-03-01T11:00:00Z
+    @WithoutConnection
+    @GetMapping("/availability")
+    public ResponseEntity<List<AvailableAsset>> findAvailableAssets(
+            @RequestParam(required = false) String type,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (!to.isAfter(from) || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(availabilityService.findAvailable(type, Date.from(from), Date.from(to), Paging.clamp(limit)));
+    }
+
+    @WithoutConnection
+    @GetMapping("/{id}/reservations")
+    public ResponseEntity<List<Reservation>> getReservations(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        if (!to.isAfter(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(availabilityService.getReservations(id, Date.from(from), Date.from(to)));
     }
 
     @GetMapping("/{id}")
@@ -44,11 +120,24 @@ public class AssetController {
         return assetService.addAsset(asset);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> addAssets(@RequestBody List<Asset> assets) {
+        if (assets.size() > Paging.MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest()
+                    .body("Error: at most " + Paging.MAX_BULK_ITEMS + " assets per call");
+        }
+        return ResponseEntity.ok(assetService.addAssets(assets));
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Asset> updateAsset(@PathVariable Long id, @RequestBody Asset asset) {
+    public ResponseEntity<?> updateAsset(@PathVariable Long id, @RequestBody Asset asset) {
         try {
             Asset updatedAsset = assetService.updateAsset(id, asset);
             return ResponseEntity.ok(updatedAsset);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // A reservation changed the asset between our read and write
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Error: asset " + id + " was changed concurrently, reload and retry");
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
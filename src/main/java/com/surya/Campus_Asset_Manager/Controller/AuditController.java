@@ -0,0 +1,59 @@
+package com.surya.Campus_Asset_Manager.Controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.surya.Campus_Asset_Manager.Model.RequestAudit;
+import com.surya.Campus_Asset_Manager.Service.AuditService;
+
+// Status history in the order it happened; page forward with ?after=<X-Next-Cursor> to replay it
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+
+    @Autowired
+    private AuditService auditService;
+
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<List<RequestAudit>> getRequestHistory(
+            @PathVariable Long requestId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(auditService.getRequestHistory(requestId, after, pageSize + 1), pageSize, RequestAudit::getId);
+    }
+
+    @GetMapping("/assets/{assetId}")
+    public ResponseEntity<List<RequestAudit>> getAssetHistory(
+            @PathVariable Long assetId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(auditService.getAssetHistory(assetId, after, pageSize + 1), pageSize, RequestAudit::getId);
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<List<RequestAudit>> getUserHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(auditService.getUserHistory(userId, after, pageSize + 1), pageSize, RequestAudit::getId);
+    }
+}
@@ -9,8 +9,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.surya.Campus_Asset_Manager.Exception.DuplicateUsernameException;
+import com.surya.Campus_Asset_Manager.Exception.HashingCapacityException;
 import com.surya.Campus_Asset_Manager.Model.LoginRequest;
 import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Security.RateLimiter;
 import com.surya.Campus_Asset_Manager.Service.UserService;
 
 @RestController
@@ -20,6 +22,9 @@ public class AuthController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private RateLimiter rateLimiter;
+
     @PostMapping("/register")
     public ResponseEntity<String> register(@RequestBody User user) {
         try {
@@ -28,6 +33,8 @@ public class AuthController {
         } catch (DuplicateUsernameException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
                     .body("Error: " + e.getMessage());
+        } catch (HashingCapacityException e) {
+            return busy(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Error: Registration failed - " + e.getMessage());
@@ -36,12 +43,30 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<String> login(@RequestBody LoginRequest loginRequest) {
+        // Guessing one account's password is held back per account, wherever the attempts come from
+        long wait = rateLimiter.isEnabled()
+                ? rateLimiter.acquire(RateLimiter.LOGIN_ACCOUNT, String.valueOf(loginRequest.getUsername()))
+                : 0;
+        if (wait > 0) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", String.valueOf(RateLimiter.retryAfterSeconds(wait)))
+                    .body("Error: too many sign-in attempts for this account, retry later");
+        }
         try {
             String token = userService.authenticateAndGenerateToken(loginRequest);
             return ResponseEntity.ok(token);
+        } catch (HashingCapacityException e) {
+            return busy(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body("Error: Invalid username or password");
         }
     }
+
+    // Hashing pool saturated: ask the client to back off rather than reporting bad credentials
+    private ResponseEntity<String> busy(HashingCapacityException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body("Error: " + e.getMessage());
+    }
 }
@@ -0,0 +1,51 @@
+package com.surya.Campus_Asset_Manager.Controller;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.surya.Campus_Asset_Manager.Config.WithoutConnection;
+import com.surya.Campus_Asset_Manager.Security.JwtTokenProvider;
+import com.surya.Campus_Asset_Manager.Security.JwtUserPrincipal;
+import com.surya.Campus_Asset_Manager.Service.ChangeFeedService;
+
+@RestController
+@RequestMapping("/api/events")
+public class EventController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @WithoutConnection
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(Authentication authentication) {
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        return changeFeedService.subscribe(principal.id(), admin)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header("Retry-After", "5")
+                        .build());
+    }
+
+    // EventSource cannot send the Authorization header; it opens the stream with ?ticket= instead
+    @WithoutConnection
+    @PostMapping("/ticket")
+    public Map<String, String> ticket(Authentication authentication) {
+        JwtUserPrincipal principal = (JwtUserPrincipal) authentication.getPrincipal();
+        return Map.of("ticket", jwtTokenProvider.generateEventTicket(principal.username(), principal.role(), principal.id()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.surya.Campus_Asset_Manager.Controller;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.ResponseEntity;
+
+// Shared size limits and response shaping for the paged list and bulk endpoints
+final class Paging {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int MAX_BULK_ITEMS = 10_000;
+
+    private Paging() {
+    }
+
+    static int clamp(int limit) {
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    // Expects up to limit + 1 rows ordered by id; the extra row only signals that another page exists
+    static <T> ResponseEntity<List<T>> keysetPage(List<T> rows, int limit, Function<T, Long> idOf) {
+        if (rows.size() <= limit) {
+            return ResponseEntity.ok(rows);
+        }
+        List<T> page = rows.subList(0, limit);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, String.valueOf(idOf.apply(page.get(limit - 1))))
+                .body(page);
+    }
+}
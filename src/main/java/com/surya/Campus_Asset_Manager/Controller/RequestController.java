@@ -1,9 +1,15 @@
 package com.surya.Campus_Asset_Manager.Controller;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,9 +18,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.surya.Campus_Asset_Manager.Config.WithoutConnection;
+import com.surya.Campus_Asset_Manager.Exception.AssetUnavailableException;
+import com.surya.Campus_Asset_Manager.Exception.PendingLimitExceededException;
+import com.surya.Campus_Asset_Manager.Model.IntakeTicket;
 import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Model.StatusUpdate;
+import com.surya.Campus_Asset_Manager.Service.ExportService;
+import com.surya.Campus_Asset_Manager.Service.RequestIntakeQueue;
 import com.surya.Campus_Asset_Manager.Service.RequestService;
 
 @RestController
@@ -22,27 +38,63 @@ import com.surya.Campus_Asset_Manager.Service.RequestService;
 public class RequestController {
     @Autowired
     private RequestService requestService;
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private RequestIntakeQueue requestIntakeQueue;
 
     @GetMapping
-    public List<Request> getAllRequests() {
-        return requestService.getAllRequests();
+    public ResponseEntity<List<RequestSummary>> getAllRequests(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(requestService.getRequestsAfter(after, pageSize + 1), pageSize, RequestSummary::id);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRequests() {
+        StreamingResponseBody body = exportService::writeRequests;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"requests.ndjson\"")
+                .body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Request> getRequestById(@PathVariable Long id) {
+    public ResponseEntity<RequestSummary> getRequestById(@PathVariable Long id) {
         return requestService.getRequestById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @WithoutConnection
+    @GetMapping("/pending/{ticket}")
+    public ResponseEntity<IntakeTicket> getPendingRequest(@PathVariable String ticket) {
+        return requestIntakeQueue.getTicket(ticket)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/status/{status}")
-    public List<Request> getRequestsByStatus(@PathVariable String status) {
+    public List<RequestSummary> getRequestsByStatus(@PathVariable String status) {
         return requestService.getRequestsByStatus(status);
     }
 
     @GetMapping("/user/{userId}")
-    public List<Request> getRequestsByUserId(@PathVariable Long userId) {
-        return requestService.getRequestsByUserId(userId);
+    public ResponseEntity<List<RequestSummary>> getRequestsByUserId(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        if (page < 0 || size < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        Slice<RequestSummary> requests = requestService.getRequestsByUserId(userId, page, Paging.clamp(size));
+        return ResponseEntity.ok()
+                .header("X-Has-Next", String.valueOf(requests.hasNext()))
+                .body(requests.getContent());
     }
 
     @PostMapping
@@ -55,9 +107,31 @@ public class RequestController {
             if (request.getAsset() == null || request.getAsset().getId() == null) {
                 return ResponseEntity.badRequest().body("Error: Asset ID is required");
             }
-            
+            // A booking window is optional, but when given it needs both ends in order
+            if ((request.getStartTime() == null) != (request.getEndTime() == null)
+                    || (request.hasWindow() && !request.getEndTime().after(request.getStartTime()))) {
+                return ResponseEntity.badRequest().body("Error: startTime and endTime must both be set, with endTime after startTime");
+            }
+
+            // Write-behind mode: acknowledge with a ticket to poll; the row is inserted with the next batch
+            if (requestIntakeQueue.isEnabled()) {
+                Optional<IntakeTicket> ticket = requestIntakeQueue.submit(request);
+                if (ticket.isEmpty()) {
+                    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header("Retry-After", "1")
+                            .body("Error: request intake queue is full, retry shortly");
+                }
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/requests/pending/" + ticket.get().ticket()))
+                        .body(ticket.get());
+            }
+
             Request createdRequest = requestService.createRequest(request);
-            return ResponseEntity.ok(createdRequest);
+            // The saved entity only carries the ids that were posted; read back names in one join
+            return ResponseEntity.ok(requestService.getRequestById(createdRequest.getId())
+                    .orElseGet(() -> RequestSummary.of(createdRequest)));
+        } catch (PendingLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(500)
                     .body("Error creating request: " + e.getMessage());
@@ -65,19 +139,36 @@ public class RequestController {
     }
 
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Request> updateRequestStatus(
+    public ResponseEntity<?> updateRequestStatus(
             @PathVariable Long id,
             @RequestBody Map<String, String> updates) {
+        String status = updates.get("status");
+        String comments = updates.get("comments");
+        if (status == null || status.isBlank()) {
+            return ResponseEntity.badRequest().body("Error: status is required");
+        }
         try {
-            String status = updates.get("status");
-            String comments = updates.get("comments");
             Request updatedRequest = requestService.updateRequestStatus(id, status, comments);
-            return ResponseEntity.ok(updatedRequest);
+            return ResponseEntity.ok(RequestSummary.of(updatedRequest));
+        } catch (AssetUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Error: request " + id + " was changed concurrently, reload and retry");
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
     }
 
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<?> updateRequestStatuses(@RequestBody List<StatusUpdate> updates) {
+        if (updates.size() > Paging.MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest()
+                    .body("Error: at most " + Paging.MAX_BULK_ITEMS + " updates per call");
+        }
+        return ResponseEntity.ok(requestService.updateRequestStatuses(updates));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteRequest(@PathVariable Long id) {
         requestService.deleteRequest(id);
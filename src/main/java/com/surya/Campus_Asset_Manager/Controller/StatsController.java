@@ -0,0 +1,22 @@
+package com.surya.Campus_Asset_Manager.Controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.surya.Campus_Asset_Manager.Model.DashboardStats;
+import com.surya.Campus_Asset_Manager.Service.StatsService;
+
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+
+    @Autowired
+    private StatsService statsService;
+
+    @GetMapping
+    public DashboardStats getStats() {
+        return statsService.getStats();
+    }
+}
@@ -18,8 +18,14 @@ public class UserController {
     private UserService userService;
 
     @GetMapping
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public ResponseEntity<List<User>> getAllUsers(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + Paging.DEFAULT_LIMIT) int limit) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        int pageSize = Paging.clamp(limit);
+        return Paging.keysetPage(userService.getUsersAfter(after, pageSize + 1), pageSize, User::getId);
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,7 @@
+package com.surya.Campus_Asset_Manager.Exception;
+
+public class AssetUnavailableException extends RuntimeException {
+    public AssetUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.surya.Campus_Asset_Manager.Exception;
+
+public class HashingCapacityException extends RuntimeException {
+    public HashingCapacityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.surya.Campus_Asset_Manager.Exception;
+
+public class PendingLimitExceededException extends RuntimeException {
+    public PendingLimitExceededException(String message) {
+        super(message);
+    }
+}
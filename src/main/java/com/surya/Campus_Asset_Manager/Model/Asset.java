@@ -1,26 +1,50 @@
 package com.surya.Campus_Asset_Manager.Model;
 
+import java.util.Locale;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = @Index(name = "idx_asset_status", columnList = "status"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Asset {
+    // Pooled sequence (a table on MySQL) so Hibernate can batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_seq")
+    @SequenceGenerator(name = "asset_seq", sequenceName = "asset_seq", allocationSize = 50)
     private Long id;
 
     private String name;
     private String type;
     private int quantity;
-    private String status; // Available, Reserved, etc.
+    private String status; // AVAILABLE, RESERVED, etc.
+
+    // Bumped by every entity update and by the reserve/release queries, so a stale admin edit fails instead of overwriting a reservation
+    @Version
+    private long version;
+
+    // Statuses are stored upper-case so the indexed status lookup can use a plain equality match
+    @PrePersist
+    @PreUpdate
+    void normalizeStatus() {
+        if (status != null) {
+            status = status.trim().toUpperCase(Locale.ROOT);
+        }
+    }
 
     // Getters and Setters
 }
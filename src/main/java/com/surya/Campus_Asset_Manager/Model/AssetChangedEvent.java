@@ -0,0 +1,18 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.time.Instant;
+
+// Published by AssetService after every asset write with the asset's resulting state;
+// change is CREATED, UPDATED, RESERVED, RELEASED or DELETED (which carries only the id)
+public record AssetChangedEvent(String change, Long id, String name, String type, Integer quantity,
+                                String status, Instant changedAt) {
+
+    public static AssetChangedEvent of(String change, Asset asset) {
+        return new AssetChangedEvent(change, asset.getId(), asset.getName(), asset.getType(),
+                asset.getQuantity(), asset.getStatus(), Instant.now());
+    }
+
+    public static AssetChangedEvent deleted(Long id) {
+        return new AssetChangedEvent("DELETED", id, null, null, null, null, Instant.now());
+    }
+}
@@ -0,0 +1,5 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// An asset as held by the in-memory search index
+public record AssetSearchHit(Long id, String name, String type, Integer quantity, String status) {
+}
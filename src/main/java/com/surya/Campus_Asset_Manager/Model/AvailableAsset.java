@@ -0,0 +1,5 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// An asset with at least one unit not booked anywhere in the queried window
+public record AvailableAsset(Long id, String name, String type, String status, int freeUnits) {
+}
@@ -0,0 +1,16 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// Outcome of one element of a bulk call; index is the element's position in the submitted list
+public record BulkItemResult(int index, Long id, boolean success, String error) {
+
+    // Reported for every item of a chunk whose transaction failed; the cause is only logged
+    public static final String CHUNK_ROLLED_BACK = "Chunk rolled back, retry these items";
+
+    public static BulkItemResult ok(int index, Long id) {
+        return new BulkItemResult(index, id, true, null);
+    }
+
+    public static BulkItemResult failed(int index, Long id, String error) {
+        return new BulkItemResult(index, id, false, error);
+    }
+}
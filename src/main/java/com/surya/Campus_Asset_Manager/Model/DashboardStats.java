@@ -0,0 +1,12 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.util.Map;
+
+public record DashboardStats(
+        long totalAssets,
+        Map<String, Long> assetsByStatus,
+        long totalRequests,
+        Map<String, Long> requestsByStatus,
+        long totalUsers,
+        Map<String, Long> usersByRole) {
+}
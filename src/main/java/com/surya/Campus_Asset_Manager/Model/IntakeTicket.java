@@ -0,0 +1,21 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// Where a write-behind request stands: QUEUED until its batch commits, then CREATED with the real
+// request id, or FAILED with the reason the insert was refused
+public record IntakeTicket(String ticket, String state, Long requestId, String error) {
+
+    // Reported when the insert failed for any reason not meant for the client; the cause is only logged
+    public static final String NOT_SAVED = "Request could not be saved";
+
+    public static IntakeTicket queued(String ticket) {
+        return new IntakeTicket(ticket, "QUEUED", null, null);
+    }
+
+    public static IntakeTicket created(String ticket, Long requestId) {
+        return new IntakeTicket(ticket, "CREATED", requestId, null);
+    }
+
+    public static IntakeTicket failed(String ticket, String error) {
+        return new IntakeTicket(ticket, "FAILED", null, error);
+    }
+}
@@ -1,38 +1,61 @@
 package com.surya.Campus_Asset_Manager.Model;
 
 import java.util.Date;
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Temporal;
 import jakarta.persistence.TemporalType;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
-@Table(name = "asset_request")
+@Table(name = "asset_request", indexes = {
+    @Index(name = "idx_request_status", columnList = "status"),
+    @Index(name = "idx_request_user_date", columnList = "user_id, request_date"),
+    @Index(name = "idx_request_user_status", columnList = "user_id, status"),
+    @Index(name = "uk_request_intake_ticket", columnList = "intake_ticket", unique = true)
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
 public class Request {
+    // Pooled sequence like Asset so write-behind batches go out as JDBC batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_seq")
+    @SequenceGenerator(name = "request_seq", sequenceName = "request_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // Loaded on demand; queries that need them say so with an entity graph or a join
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Asset asset;
 
     @Column(length = 50)
-    private String status; // Pending, Approved, Rejected
+    private String status; // PENDING, APPROVED, REJECTED
 
     @Column(length = 500)
     private String comments;
@@ -40,6 +63,35 @@ public class Request {
     @Temporal(TemporalType.TIMESTAMP)
     private Date requestDate;
 
+    // Optional booking window [startTime, endTime). An approved request with a window holds one unit
+    // only for that window (see AvailabilityService); without one it takes a unit until released.
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date startTime;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date endTime;
+
+    // Two admins deciding the same request concurrently: the second commit fails and its reservation rolls back
+    @Version
+    private long version;
+
+    // Provisional id handed out by the write-behind queue; lets a journal replay skip rows already inserted
+    @Column(length = 36)
+    @JsonIgnore
+    private String intakeTicket;
+
+    // Keep stored values canonical (PENDING, APPROVED, ...) for findByStatus
+    @PrePersist
+    @PreUpdate
+    void normalizeStatus() {
+        if (status != null) {
+            status = status.trim().toUpperCase(Locale.ROOT);
+        }
+    }
+
+    public boolean hasWindow() {
+        return startTime != null && endTime != null;
+    }
 
     // Getters and Setters
 }
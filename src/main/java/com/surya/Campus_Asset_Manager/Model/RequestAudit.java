@@ -0,0 +1,65 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Append-only history of request status transitions. Rows are inserted, never updated;
+// ids increase with insertion order, so ordering by id replays the history.
+@Entity
+@Immutable
+@Table(name = "request_audit", indexes = {
+    @Index(name = "idx_audit_request", columnList = "request_id"),
+    @Index(name = "idx_audit_asset", columnList = "asset_id"),
+    @Index(name = "idx_audit_user", columnList = "user_id")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class RequestAudit {
+    // Pooled sequence so the writer's batches go out as batched INSERTs
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_audit_seq")
+    @SequenceGenerator(name = "request_audit_seq", sequenceName = "request_audit_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+
+    @Column(name = "asset_id")
+    private Long assetId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    private Long actorId;
+
+    @Column(length = 50)
+    private String fromStatus;
+
+    @Column(length = 50, nullable = false)
+    private String toStatus;
+
+    @Column(length = 500)
+    private String comments;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    public static RequestAudit of(RequestStatusChangedEvent event) {
+        return new RequestAudit(null, event.requestId(), event.assetId(), event.userId(), event.actorId(),
+                event.fromStatus(), event.toStatus(), event.comments(), event.changedAt());
+    }
+}
@@ -0,0 +1,8 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.time.Instant;
+
+// Published by RequestService for every status change; fromStatus is null on creation, toStatus is DELETED on removal
+public record RequestStatusChangedEvent(Long requestId, Long assetId, Long userId, Long actorId,
+                                        String fromStatus, String toStatus, String comments, Instant changedAt) {
+}
@@ -0,0 +1,25 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.util.Date;
+
+// Flat read model for request listings: names instead of nested user/asset graphs, no password hash
+public record RequestSummary(Long id, String status, String comments, Date requestDate,
+                             Date startTime, Date endTime,
+                             Long userId, String username, Long assetId, String assetName) {
+
+    public static RequestSummary of(Request request) {
+        User user = request.getUser();
+        Asset asset = request.getAsset();
+        return new RequestSummary(
+                request.getId(),
+                request.getStatus(),
+                request.getComments(),
+                request.getRequestDate(),
+                request.getStartTime(),
+                request.getEndTime(),
+                user != null ? user.getId() : null,
+                user != null ? user.getUsername() : null,
+                asset != null ? asset.getId() : null,
+                asset != null ? asset.getName() : null);
+    }
+}
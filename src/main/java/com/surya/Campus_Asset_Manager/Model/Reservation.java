@@ -0,0 +1,7 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.util.Date;
+
+// The window an approved request holds one unit of an asset for: [start, end)
+public record Reservation(Long requestId, Long assetId, Date start, Date end) {
+}
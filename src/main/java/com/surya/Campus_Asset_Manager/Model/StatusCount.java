@@ -0,0 +1,8 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// Row of a GROUP BY status/role count query
+public interface StatusCount {
+    String getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,5 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// One entry of a bulk request status change
+public record StatusUpdate(Long id, String status, String comments) {
+}
@@ -0,0 +1,8 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+// Row of a GROUP BY user count of PENDING requests
+public interface UserPendingCount {
+    Long getUserId();
+
+    long getCount();
+}
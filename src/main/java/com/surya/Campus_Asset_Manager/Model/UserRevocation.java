@@ -0,0 +1,26 @@
+package com.surya.Campus_Asset_Manager.Model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// Tokens of this user issued at or before revokedAt are rejected; one row per user, shared by every node
+@Entity
+@Table(name = "user_revocation")
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+public class UserRevocation {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant revokedAt;
+}
@@ -1,8 +1,52 @@
 package com.surya.Campus_Asset_Manager.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.QueryHint;
 
 import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.StatusCount;
+
+public interface AssetRepository extends JpaRepository<Asset, Long> {
+    int EXPORT_FETCH_SIZE = 500;
+
+    List<Asset> findByStatus(String status);
+
+    List<Asset> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    // Takes one unit only if one is left; returns the number of rows updated (0 or 1).
+    // status is assigned before quantity so it sees the pre-decrement value on every database.
+    @Modifying
+    @Query("update Asset a set "
+            + "a.status = case when a.quantity <= 1 then 'RESERVED' else a.status end, "
+            + "a.quantity = a.quantity - 1, "
+            + "a.version = a.version + 1 "
+            + "where a.id = :id and a.quantity > 0")
+    int reserveUnit(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Asset a set "
+            + "a.status = case when a.status = 'RESERVED' then 'AVAILABLE' else a.status end, "
+            + "a.quantity = a.quantity + 1, "
+            + "a.version = a.version + 1 "
+            + "where a.id = :id")
+    int releaseUnit(@Param("id") Long id);
+
+    @Query("select a.status as status, count(a) as count from Asset a group by a.status")
+    List<StatusCount> countByStatus();
 
-public interface AssetRepository extends JpaRepository<Asset, Long> {}
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("select a from Asset a order by a.id")
+    Stream<Asset> streamAllForExport();
+}
 
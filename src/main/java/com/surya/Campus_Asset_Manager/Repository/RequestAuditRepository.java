@@ -0,0 +1,17 @@
+package com.surya.Campus_Asset_Manager.Repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.surya.Campus_Asset_Manager.Model.RequestAudit;
+
+public interface RequestAuditRepository extends JpaRepository<RequestAudit, Long> {
+
+	List<RequestAudit> findByRequestIdAndIdGreaterThanOrderByIdAsc(Long requestId, Long afterId, Limit limit);
+
+	List<RequestAudit> findByAssetIdAndIdGreaterThanOrderByIdAsc(Long assetId, Long afterId, Limit limit);
+
+	List<RequestAudit> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Limit limit);
+}
@@ -1,11 +1,96 @@
 package com.surya.Campus_Asset_Manager.Repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Model.Reservation;
+import com.surya.Campus_Asset_Manager.Model.StatusCount;
+import com.surya.Campus_Asset_Manager.Model.UserPendingCount;
 
 public interface RequestRepository extends JpaRepository<Request, Long> {
+	int EXPORT_FETCH_SIZE = 500;
+
 	long countByUserId(Long userId);
+
+	// Served by idx_request_user_status; backs the per-user pending request cap
+	long countByUserIdAndStatus(Long userId, String status);
+
+	// Same cap for a whole write-behind batch: one grouped count for all of its users
+	@Query("select r.user.id as userId, count(r) as count from Request r "
+			+ "where r.status = 'PENDING' and r.user.id in :userIds group by r.user.id")
+	List<UserPendingCount> countPendingByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+	// Status changes and deletes need the asset (and the response the user) of the loaded request
+	@Override
+	@EntityGraph(attributePaths = {"user", "asset"})
+	Optional<Request> findById(Long id);
+
+	@EntityGraph(attributePaths = {"user", "asset"})
+	List<Request> findByStatus(String status);
+
+	// Read-side queries select straight into RequestSummary: one joined select, no entities to hydrate or track
+	String SUMMARY = "select new com.surya.Campus_Asset_Manager.Model.RequestSummary("
+			+ "r.id, r.status, r.comments, r.requestDate, r.startTime, r.endTime, u.id, u.username, a.id, a.name) "
+			+ "from Request r join r.user u join r.asset a ";
+
+	@Query(SUMMARY + "where r.id = :id")
+	Optional<RequestSummary> findSummaryById(@Param("id") Long id);
+
+	@Query(SUMMARY + "where r.id > :afterId order by r.id")
+	List<RequestSummary> findSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+	@Query(SUMMARY + "where r.status = :status")
+	List<RequestSummary> findSummariesByStatus(@Param("status") String status);
+
+	// Served by idx_request_user_date
+	@Query(SUMMARY + "where u.id = :userId")
+	Slice<RequestSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+	@Query("select r.status as status, count(r) as count from Request r group by r.status")
+	List<StatusCount> countByStatus();
+
+	// Approved bookings that have not ended yet, in id pages; loads AvailabilityService at startup
+	@Query("select new com.surya.Campus_Asset_Manager.Model.Reservation(r.id, r.asset.id, r.startTime, r.endTime) "
+			+ "from Request r where r.id > :afterId and r.status = 'APPROVED' "
+			+ "and r.startTime is not null and r.endTime > :endsAfter order by r.id")
+	List<Reservation> findReservationsAfter(@Param("afterId") Long afterId, @Param("endsAfter") Date endsAfter,
+			Limit limit);
+
+	// Approved windows of one asset that end after the given time. A locking read, so it also sees windows
+	// committed after the caller's transaction took its snapshot; AvailabilityService runs it under the asset's row lock
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from Request r where r.asset.id = :assetId and r.status = 'APPROVED' "
+			+ "and r.startTime is not null and r.endTime > :endsAfter")
+	List<Request> lockApprovedWindows(@Param("assetId") Long assetId, @Param("endsAfter") Date endsAfter);
+
+	// Which of the given write-behind tickets already made it into the table; used by the journal replay
+	@Query("select r.intakeTicket from Request r where r.intakeTicket in :tickets")
+	List<String> findIntakeTicketsIn(@Param("tickets") Collection<String> tickets);
+
+	// Scrolls the table with a bounded JDBC fetch size; must be consumed inside a transaction
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+	@Query(SUMMARY + "order by r.id")
+	Stream<RequestSummary> streamSummariesForExport();
 }
 
 
@@ -1,9 +1,19 @@
 package com.surya.Campus_Asset_Manager.Repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.surya.Campus_Asset_Manager.Model.StatusCount;
 import com.surya.Campus_Asset_Manager.Model.User;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByUsername(String username);
+
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query("select u.role as status, count(u) as count from User u group by u.role")
+    List<StatusCount> countByRole();
 }
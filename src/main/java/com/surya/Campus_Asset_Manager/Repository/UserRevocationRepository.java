@@ -0,0 +1,15 @@
+package com.surya.Campus_Asset_Manager.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.surya.Campus_Asset_Manager.Model.UserRevocation;
+
+public interface UserRevocationRepository extends JpaRepository<UserRevocation, Long> {
+
+	List<UserRevocation> findByRevokedAtAfter(Instant since);
+
+	void deleteByRevokedAtBefore(Instant before);
+}
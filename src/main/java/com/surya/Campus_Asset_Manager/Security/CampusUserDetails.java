@@ -0,0 +1,30 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.util.List;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import com.surya.Campus_Asset_Manager.Model.Role;
+
+// UserDetails that also carries the id and role, so login can mint a token without a second lookup
+public class CampusUserDetails extends User {
+
+    private final Long id;
+    private final Role role;
+
+    public CampusUserDetails(com.surya.Campus_Asset_Manager.Model.User user) {
+        super(user.getUsername(), user.getPassword(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+        this.id = user.getId();
+        this.role = user.getRole();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+}
@@ -1,7 +1,6 @@
 package com.surya.Campus_Asset_Manager.Security;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -9,8 +8,6 @@ import org.springframework.stereotype.Service;
 
 import com.surya.Campus_Asset_Manager.Repository.UserRepository;
 
-import java.util.Arrays;
-
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
@@ -23,12 +20,6 @@ public class CustomUserDetailsService implements UserDetailsService {
         if (user == null) {
             throw new UsernameNotFoundException("User not found with username: " + username);
         }
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities(Arrays.asList(
-                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
-                ))
-                .build();
+        return new CampusUserDetails(user);
     }
 }
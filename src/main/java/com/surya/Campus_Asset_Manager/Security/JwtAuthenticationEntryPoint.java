@@ -1,62 +0,0 @@
-package com.surya.Campus_Asset_Manager.Security;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.lang.NonNull;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import java.io.IOException;
-
-public class JwtAuthenticationEntryPoint extends OncePerRequestFilter {
-
-    private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
-
-    // Constructor for dependency injection
-    public JwtAuthenticationEntryPoint(JwtTokenProvider jwtTokenProvider, CustomUserDetailsService customUserDetailsService) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.customUserDetailsService = customUserDetailsService;
-    }
-
-    @Override
-    protected void doFilterInternal(@NonNull HttpServletRequest request, 
-                                   @NonNull HttpServletResponse response, 
-                                   @NonNull FilterChain filterChain)
-            throws ServletException, IOException {
-
-        try {
-            // Extract the token from the request
-            String token = jwtTokenProvider.resolveToken(request);
-
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                // Get username from the token
-                String username = jwtTokenProvider.getUsernameFromToken(token);
-
-                // Load user details
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-
-                // Create an authentication object
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
-
-                // Set authentication details
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                // Set the authentication in the context
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to set user authentication: " + e.getMessage());
-        }
-
-        // Continue the filter chain
-        filterChain.doFilter(request, response);
-    }
-}
@@ -6,51 +6,73 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserRevocationRegistry revocationRegistry;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRevocationRegistry revocationRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationRegistry = revocationRegistry;
     }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, 
                                    @NonNull HttpServletResponse response,
                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
-        String token = jwtTokenProvider.resolveToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
+        // One verified parse per request; username and role come from the same claims
+        Claims claims = resolveClaims(request);
+        Long userId = JwtTokenProvider.getId(claims);
+        if (claims != null && !revocationRegistry.isRevoked(userId, claims.getIssuedAt())) {
+            String username = claims.getSubject();
 
             // Read role(s) from token and map to GrantedAuthority
-            String role = jwtTokenProvider.getRoleFromToken(token);
-            List<SimpleGrantedAuthority> authorities;
-            if (role != null && !role.isBlank()) {
-                // Support comma separated roles in claim if needed
-                authorities = Collections.list(java.util.Collections.enumeration(
-                        java.util.Arrays.stream(role.split(",")).map(String::trim)
-                                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
-                                .map(SimpleGrantedAuthority::new)
-                                .collect(Collectors.toList())
-                ));
-            } else {
-                authorities = Collections.emptyList();
-            }
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(username, null, authorities);
+            String role = JwtTokenProvider.getRole(claims);
+            List<SimpleGrantedAuthority> authorities = toAuthorities(role);
+
+            // The signed claims are the identity; no user row is loaded per request
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    new JwtUserPrincipal(userId, username, role), null, authorities);
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         filterChain.doFilter(request, response);
     }
+
+    // The Authorization header, or on the event stream alone a single-use ticket from POST /api/events/ticket
+    private Claims resolveClaims(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request);
+        if (token != null) {
+            Claims claims = jwtTokenProvider.parseClaims(token);
+            return claims != null && claims.get(JwtTokenProvider.PURPOSE) == null ? claims : null;
+        }
+        String ticket = request.getParameter("ticket");
+        if (ticket != null && "GET".equals(request.getMethod()) && "/api/events".equals(request.getServletPath())) {
+            return jwtTokenProvider.redeemEventTicket(ticket);
+        }
+        return null;
+    }
+
+    // Support comma separated roles in claim if needed
+    public static List<SimpleGrantedAuthority> toAuthorities(String role) {
+        if (role == null || role.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(role.split(","))
+                .map(String::trim)
+                .map(r -> r.startsWith("ROLE_") ? r : "ROLE_" + r)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
 }
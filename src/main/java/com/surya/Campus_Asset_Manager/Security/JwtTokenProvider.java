@@ -1,30 +1,107 @@
 package com.surya.Campus_Asset_Manager.Security;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.impl.DefaultClaims;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
+    // Set only on event tickets, which open the event stream and nothing else
+    public static final String PURPOSE = "purpose";
+    public static final String EVENTS = "events";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration:3600000}")
     private long jwtExpirationMs;
 
+    @Value("${jwt.claims-cache-size:10000}")
+    private int claimsCacheSize;
+
+    @Value("${sse.ticket-ttl-ms:30000}")
+    private long eventTicketTtlMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Built once; both are immutable and thread-safe
+    private Key key;
+    private JwtParser parser;
+
+    // Verified claims by raw token, so repeat calls with the same token skip the HS512 check.
+    // Each entry expires with its token; callers only ever get a copy
+    private Cache<String, Claims> claimsCache;
+
+    // Ids of event tickets already redeemed, kept until the tickets would have expired anyway
+    private Cache<String, Boolean> redeemedTickets;
+
+    private Timer verifyTimer;
+    private Counter cacheHits;
+
+    @PostConstruct
+    void init() {
+        key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+        verifyTimer = Timer.builder("campus.jwt.verify")
+            .description("Parse and HS512 signature check of a token not yet in the claims cache")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        cacheHits = Counter.builder("campus.jwt.claims.cache.hits")
+            .register(meterRegistry);
+        claimsCache = Caffeine.newBuilder()
+            .maximumSize(claimsCacheSize)
+            .expireAfter(new Expiry<String, Claims>() {
+                @Override
+                public long expireAfterCreate(String token, Claims claims, long currentTime) {
+                    long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+        meterRegistry.gauge("campus.jwt.claims.cache.size", claimsCache, Cache::estimatedSize);
+        redeemedTickets = Caffeine.newBuilder()
+            .expireAfterWrite(eventTicketTtlMs, TimeUnit.MILLISECONDS)
+            .build();
+    }
+
     // Generate a token with additional claims (role, id)
     public String generateToken(String username, String role, Long id) {
-        // Generate key from the secret key
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-
         io.jsonwebtoken.JwtBuilder builder = Jwts.builder()
             .setSubject(username)
             .setIssuedAt(new Date())
@@ -38,24 +115,64 @@ public class JwtTokenProvider {
         return builder.signWith(key, SignatureAlgorithm.HS512).compact();
     }
 
-    // Validate the token
-    public boolean validateToken(String token) {
+    // EventSource cannot set headers, so the event stream is opened with a ticket in the URL rather than
+    // the login token. It lasts sse.ticket-ttl-ms and is redeemed once per node
+    public String generateEventTicket(String username, String role, Long id) {
+        long now = System.currentTimeMillis();
+        io.jsonwebtoken.JwtBuilder builder = Jwts.builder()
+            .setSubject(username)
+            .setId(UUID.randomUUID().toString())
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + eventTicketTtlMs))
+            .claim("role", role)
+            .claim(PURPOSE, EVENTS);
+
+        if (id != null) {
+            builder.claim("id", id);
+        }
+
+        return builder.signWith(key, SignatureAlgorithm.HS512).compact();
+    }
+
+    // Claims of a valid event ticket on its first use; null if it is invalid, expired, used or not a ticket
+    public Claims redeemEventTicket(String ticket) {
+        Claims claims = parseClaims(ticket);
+        if (claims == null || !EVENTS.equals(claims.get(PURPOSE)) || claims.getId() == null) {
+            return null;
+        }
+        return redeemedTickets.asMap().putIfAbsent(claims.getId(), Boolean.TRUE) == null ? claims : null;
+    }
+
+    // Verify the token once and return all of its claims, or null if it is invalid or expired
+    public Claims parseClaims(String token) {
+        if (token == null) {
+            return null;
+        }
+        Claims cached = claimsCache.getIfPresent(token);
+        if (cached != null) {
+            cacheHits.increment();
+            return new DefaultClaims(cached);
+        }
+        long start = System.nanoTime();
         try {
-            // Generate key from the secret key for validation
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-
-            // Use the updated parser from the new JJWT version
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-
-            return true;  // If no exception, token is valid
-        } catch (Exception e) {
-            return false;  // If any exception, token is invalid
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // Only tokens with an expiry are cached, so every entry has a bounded lifetime
+            if (claims.getExpiration() != null) {
+                claimsCache.put(token, new DefaultClaims(claims));
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            verifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return null;
         }
     }
 
+    // Validate the token
+    public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
     // Resolve token from request header
     public String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
@@ -67,51 +184,36 @@ public class JwtTokenProvider {
 
     // Extract username from the token
     public String getUsernameFromToken(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        
-        // Use the new parser builder approach
-        return Jwts.parserBuilder()
-            .setSigningKey(key)
-            .build()
-            .parseClaimsJws(token)
-            .getBody()
-            .getSubject();
+        Claims claims = parseClaims(token);
+        return claims != null ? claims.getSubject() : null;
     }
 
     // Extract role claim (if present) from the token
     public String getRoleFromToken(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        try {
-            Object role = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("role");
-
-            return role != null ? role.toString() : null;
-        } catch (Exception e) {
-            return null;
-        }
+        return getRole(parseClaims(token));
     }
 
     // Extract id claim (if present) from the token
     public Long getIdFromToken(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        return getId(parseClaims(token));
+    }
+
+    public static String getRole(Claims claims) {
+        if (claims == null) return null;
+        Object role = claims.get("role");
+        return role != null ? role.toString() : null;
+    }
+
+    public static Long getId(Claims claims) {
+        if (claims == null) return null;
+        Object idObj = claims.get("id");
+        if (idObj == null) return null;
+        if (idObj instanceof Number) {
+            return ((Number) idObj).longValue();
+        }
         try {
-            Object idObj = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .get("id");
-
-            if (idObj == null) return null;
-            if (idObj instanceof Number) {
-                return ((Number) idObj).longValue();
-            }
             return Long.parseLong(idObj.toString());
-        } catch (Exception e) {
+        } catch (NumberFormatException e) {
             return null;
         }
     }
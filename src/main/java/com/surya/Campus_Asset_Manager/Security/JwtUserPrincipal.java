@@ -0,0 +1,17 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.security.Principal;
+
+// Identity taken straight from the signed token claims; building it needs no database access
+public record JwtUserPrincipal(Long id, String username, String role) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,68 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Runs right after JwtAuthenticationFilter, so callers are keyed by their JWT id when they have one and by
+// client address otherwise. Every API call spends from the caller's role budget, and request creation also
+// from its own tighter one. Login and registration spend from a per-address budget instead: students behind
+// a campus NAT share a few addresses, so it is sized for a crowd, and AuthController holds each account to
+// a strict budget of its own.
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || !request.getServletPath().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String address = "ip:" + request.getRemoteAddr();
+        String caller = address;
+        String policy = RateLimiter.ANONYMOUS;
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            caller = "user:" + principal.id();
+            boolean admin = authentication.getAuthorities().stream()
+                    .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+            policy = admin ? RateLimiter.ADMIN : RateLimiter.STUDENT;
+        }
+
+        String path = request.getServletPath();
+        long wait;
+        if (path.startsWith("/api/auth/")) {
+            wait = rateLimiter.acquire(RateLimiter.LOGIN, address);
+        } else {
+            wait = rateLimiter.acquire(policy, caller);
+            if (wait == 0 && "POST".equals(request.getMethod()) && "/api/requests".equals(path)) {
+                wait = rateLimiter.acquire(RateLimiter.CREATE_REQUEST, caller);
+            }
+        }
+
+        if (wait > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+            response.getWriter().write("Error: too many requests, retry later");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
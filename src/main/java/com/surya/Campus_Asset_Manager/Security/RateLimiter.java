@@ -0,0 +1,92 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Named token-bucket policies (see rate-limit.* in application.properties), one bucket per policy and key.
+// Buckets live in a size-bounded Caffeine map and are dropped after idle-minutes without traffic, which
+// is when they would have refilled anyway.
+@Component
+public class RateLimiter {
+
+    public static final String STUDENT = "student";
+    public static final String ADMIN = "admin";
+    public static final String ANONYMOUS = "anonymous";
+    public static final String LOGIN = "login";
+    public static final String LOGIN_ACCOUNT = "login-account";
+    public static final String CREATE_REQUEST = "create-request";
+
+    private record Limit(long capacity, double refillPerSecond) {
+    }
+
+    private final boolean enabled;
+    private final Map<String, Limit> limits;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Counter> rejected;
+
+    public RateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.student.capacity:120}") long studentCapacity,
+            @Value("${rate-limit.student.per-second:20}") double studentPerSecond,
+            @Value("${rate-limit.admin.capacity:600}") long adminCapacity,
+            @Value("${rate-limit.admin.per-second:100}") double adminPerSecond,
+            @Value("${rate-limit.anonymous.capacity:60}") long anonymousCapacity,
+            @Value("${rate-limit.anonymous.per-second:10}") double anonymousPerSecond,
+            @Value("${rate-limit.login.capacity:300}") long loginCapacity,
+            @Value("${rate-limit.login.per-second:30}") double loginPerSecond,
+            @Value("${rate-limit.login-account.capacity:10}") long loginAccountCapacity,
+            @Value("${rate-limit.login-account.per-second:0.2}") double loginAccountPerSecond,
+            @Value("${rate-limit.create-request.capacity:10}") long createCapacity,
+            @Value("${rate-limit.create-request.per-second:1}") double createPerSecond,
+            @Value("${rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${rate-limit.idle-minutes:10}") long idleMinutes,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.limits = Map.of(
+                STUDENT, new Limit(studentCapacity, studentPerSecond),
+                ADMIN, new Limit(adminCapacity, adminPerSecond),
+                ANONYMOUS, new Limit(anonymousCapacity, anonymousPerSecond),
+                LOGIN, new Limit(loginCapacity, loginPerSecond),
+                LOGIN_ACCOUNT, new Limit(loginAccountCapacity, loginAccountPerSecond),
+                CREATE_REQUEST, new Limit(createCapacity, createPerSecond));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        this.rejected = limits.keySet().stream().collect(Collectors.toMap(policy -> policy,
+                policy -> Counter.builder("campus.ratelimit.rejected").tag("policy", policy).register(meterRegistry)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 0 when the call may proceed, otherwise nanoseconds until the caller's next token
+    public long acquire(String policy, String key) {
+        Limit limit = limits.get(policy);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(policy + '|' + key,
+                ignored -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), now));
+        long wait = bucket.tryAcquire(now);
+        if (wait > 0) {
+            rejected.get(policy).increment();
+        }
+        return wait;
+    }
+
+    // Value for the Retry-After header of a 429: the wait from acquire() rounded up to whole seconds
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+    }
+}
@@ -1,5 +1,9 @@
 package com.surya.Campus_Asset_Manager.Security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,9 +21,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserRevocationRegistry revocationRegistry;
+    private final RateLimiter rateLimiter;
+    private final int managementPort;
 
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, UserRevocationRegistry revocationRegistry,
+                          RateLimiter rateLimiter, @Value("${management.server.port:-1}") int managementPort) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationRegistry = revocationRegistry;
+        this.rateLimiter = rateLimiter;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -28,11 +39,21 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Async/error re-dispatches (e.g. streamed exports) were already authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()  // Allow registration and login endpoints
+                .requestMatchers("/actuator/health").permitAll()
+                // Prometheus scrapes without a token, but only on the management port
+                .requestMatchers(request -> request.getLocalPort() == managementPort
+                        && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                // Metrics name every endpoint, cache and pool; only admins may browse them
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()  // Secure other endpoints
             )
-            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), 
-                UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, revocationRegistry), 
+                UsernamePasswordAuthenticationFilter.class)
+            // Needs the principal set above; still ahead of authorization and any BCrypt or database work
+            .addFilterAfter(new RateLimitFilter(rateLimiter), JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -42,8 +63,18 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    // BCrypt runs on its own bounded pool; see OffloadingPasswordEncoder
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.bcrypt.threads:0}") int threads,
+            @Value("${security.bcrypt.queue-capacity:0}") int queueCapacity,
+            @Value("${security.bcrypt.timeout-ms:500}") long timeoutMs,
+            MeterRegistry meterRegistry) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Two waiting hashes per worker: far below the request threads and bulkhead permits a login may hold
+        int queue = queueCapacity > 0 ? queueCapacity : 2 * workers;
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(strength),
+                workers, queue, timeoutMs, meterRegistry);
     }
 }
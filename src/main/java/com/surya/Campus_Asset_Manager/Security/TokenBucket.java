@@ -0,0 +1,35 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket in its GCRA form: instead of a token count and a refill timestamp, one long holds the time
+// at which the bucket will next be full again. Each admitted call pushes that time one refill interval
+// further; a call is refused when that would put it more than a full bucket's worth ahead of now.
+// A single CAS per call, so concurrent callers never block each other.
+public class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    // 0 when a token was taken, otherwise how long until one will be available
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > burstNanos) {
+                return ahead - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
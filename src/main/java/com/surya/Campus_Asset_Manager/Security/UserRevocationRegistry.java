@@ -0,0 +1,89 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.surya.Campus_Asset_Manager.Model.UserRevocation;
+import com.surya.Campus_Asset_Manager.Repository.UserRevocationRepository;
+
+// Tokens are trusted without a user lookup, so deleting a user (or changing their role)
+// must reject the tokens they already hold. Revocations are stored in user_revocation so every node
+// sees them. Each node checks a copy in memory and reloads it at most every jwt.revocation.refresh-ms,
+// so a revocation made on another node takes effect within that interval. Entries outlive every token
+// issued before them, then expire.
+@Component
+public class UserRevocationRegistry implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(UserRevocationRegistry.class);
+
+    private final UserRevocationRepository revocationRepository;
+    private final long jwtExpirationMs;
+    private final long refreshMs;
+
+    private final ConcurrentHashMap<Long, Long> revokedAt = new ConcurrentHashMap<>();
+    private final AtomicLong nextRefresh = new AtomicLong();
+
+    public UserRevocationRegistry(UserRevocationRepository revocationRepository,
+            @Value("${jwt.expiration:3600000}") long jwtExpirationMs,
+            @Value("${jwt.revocation.refresh-ms:5000}") long refreshMs) {
+        this.revocationRepository = revocationRepository;
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.refreshMs = refreshMs;
+    }
+
+    // Loaded before the server takes traffic, so no request pays for the first load
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshIfDue();
+    }
+
+    @Transactional
+    public void revoke(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        revocationRepository.save(new UserRevocation(userId, now));
+        revocationRepository.deleteByRevokedAtBefore(now.minusMillis(jwtExpirationMs));
+        // This node rejects the tokens at once; the others on their next reload
+        revokedAt.merge(userId, now.toEpochMilli(), Math::max);
+    }
+
+    // iat has second precision, so a token issued in the same second as the revocation is rejected too
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+        refreshIfDue();
+        Long at = revokedAt.get(userId);
+        return at != null && (issuedAt == null || issuedAt.getTime() <= at);
+    }
+
+    // One caller reloads while the rest keep using the current copy; a failed reload keeps it too
+    private void refreshIfDue() {
+        long now = System.currentTimeMillis();
+        long due = nextRefresh.get();
+        if (now < due || !nextRefresh.compareAndSet(due, now + refreshMs)) {
+            return;
+        }
+        try {
+            for (UserRevocation revocation : revocationRepository.findByRevokedAtAfter(
+                    Instant.ofEpochMilli(now - jwtExpirationMs))) {
+                revokedAt.merge(revocation.getUserId(), revocation.getRevokedAt().toEpochMilli(), Math::max);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not reload token revocations; keeping the ones already loaded", e);
+        }
+        revokedAt.values().removeIf(at -> now - at > jwtExpirationMs);
+    }
+}
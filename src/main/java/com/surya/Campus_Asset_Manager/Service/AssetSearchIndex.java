@@ -0,0 +1,357 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.AssetSearchHit;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+
+// In-process inverted index over asset name and type. Terms live in a sorted map, so a prefix is a
+// range scan; fuzzy matching compares terms sharing the query's first letter by edit distance.
+// Each postings list is kept in id order, which is the tie-break between equal scores, so a search
+// can stop as soon as no unvisited asset could still enter the top results.
+// Built from the table before the server starts taking traffic and kept current from AssetChangedEvent.
+@Service
+public class AssetSearchIndex implements SmartInitializingSingleton {
+
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int FUZZY = 1;
+    private static final int REBUILD_PAGE = 5000;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Value("${search.enabled:true}")
+    private boolean enabled;
+
+    // A short prefix ("a") can match thousands of terms; only the first ones in term order are expanded
+    @Value("${search.max-prefix-terms:256}")
+    private int maxPrefixTerms = 256;
+
+    private record Document(AssetSearchHit asset, String[] terms) {
+    }
+
+    private record Scored(AssetSearchHit asset, int score) {
+    }
+
+    // Ids of the assets containing one term, in id order. The skip list has no O(1) size, so it is counted
+    private record Postings(NavigableSet<Long> ids, AtomicInteger size) {
+    }
+
+    // Postings reached by one query word, all matching it at most as well as strength
+    private record Group(int strength, List<Postings> postings) {
+    }
+
+    private record Cursor(Long head, Iterator<Long> rest) {
+    }
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Postings> postings = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        // Keyset pages keep memory flat however large the table is
+        long after = 0;
+        List<Asset> page;
+        do {
+            page = assetRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(REBUILD_PAGE));
+            for (Asset asset : page) {
+                index(new AssetSearchHit(asset.getId(), asset.getName(), asset.getType(),
+                        asset.getQuantity(), asset.getStatus()));
+            }
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == REBUILD_PAGE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if ("DELETED".equals(event.change())) {
+            remove(event.id());
+        } else {
+            index(new AssetSearchHit(event.id(), event.name(), event.type(), event.quantity(), event.status()));
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Every query word must match a name/type word: exactly, as a prefix, or (with fuzzy) within
+    // one edit for words of 4-6 letters and two edits beyond that. Best matches first, then by id.
+    public List<AssetSearchHit> search(String query, String status, String type, boolean fuzzy, int limit) {
+        String[] words = tokenize(query);
+        if (words.length == 0 || limit < 1) {
+            return List.of();
+        }
+
+        // Walk the postings of the most selective word; the other words are checked per candidate
+        int narrowestWord = -1;
+        List<Group> narrowest = null;
+        long narrowestSize = Long.MAX_VALUE;
+        for (int i = 0; i < words.length; i++) {
+            List<Group> groups = candidatePostings(words[i], fuzzy);
+            long size = groups.stream().flatMap(group -> group.postings().stream())
+                    .mapToLong(ids -> ids.size().get()).sum();
+            if (size < narrowestSize) {
+                narrowestWord = i;
+                narrowest = groups;
+                narrowestSize = size;
+            }
+        }
+        if (narrowestSize == 0) {
+            return List.of();
+        }
+
+        // Best score the other words could add to any asset
+        int others = 0;
+        for (int i = 0; i < words.length; i++) {
+            if (i != narrowestWord) {
+                others += bestPossible(words[i], fuzzy);
+            }
+        }
+
+        Comparator<Scored> worstFirst = Comparator.comparingInt(Scored::score)
+                .thenComparing(scored -> scored.asset().id(), Comparator.reverseOrder());
+        PriorityQueue<Scored> top = new PriorityQueue<>(worstFirst);
+        Set<Long> seen = new HashSet<>();
+        // Groups come strongest first and each is walked in id order. Once the worst kept result beats
+        // the group's bound, or ties it with a lower id, nothing left in this or a later group can enter.
+        search:
+        for (Group group : narrowest) {
+            int bound = group.strength() + others;
+            if (top.size() == limit && top.peek().score() > bound) {
+                break;
+            }
+            Iterator<Long> ids = ascending(group.postings());
+            while (ids.hasNext()) {
+                Long id = ids.next();
+                if (top.size() == limit && top.peek().score() == bound && top.peek().asset().id() < id) {
+                    break search;
+                }
+                if (!seen.add(id)) {
+                    continue;
+                }
+                Document document = documents.get(id);
+                if (document == null || !matchesFilter(document.asset().status(), status)
+                        || !matchesFilter(document.asset().type(), type)) {
+                    continue;
+                }
+                int score = score(document.terms(), words, fuzzy);
+                if (score > 0) {
+                    top.add(new Scored(document.asset(), score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+
+        List<AssetSearchHit> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(top.poll().asset());
+        }
+        return results.reversed();
+    }
+
+    private synchronized void index(AssetSearchHit asset) {
+        remove(asset.id());
+        String[] terms = tokenize(Objects.toString(asset.name(), "") + " " + Objects.toString(asset.type(), ""));
+        documents.put(asset.id(), new Document(asset, terms));
+        for (String term : terms) {
+            Postings ids = postings.computeIfAbsent(term, t -> new Postings(new ConcurrentSkipListSet<>(), new AtomicInteger()));
+            if (ids.ids().add(asset.id())) {
+                ids.size().incrementAndGet();
+            }
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Postings ids = postings.get(term);
+            if (ids != null && ids.ids().remove(id) && ids.size().decrementAndGet() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    // Exact postings, then prefix postings, then fuzzy ones; an empty list when nothing can match
+    private List<Group> candidatePostings(String word, boolean fuzzy) {
+        List<Group> groups = new ArrayList<>(3);
+        Postings exact = postings.get(word);
+        if (exact != null) {
+            groups.add(new Group(EXACT, List.of(exact)));
+        }
+        List<Postings> prefixed = postings.subMap(word, false, word + Character.MAX_VALUE, false).values()
+                .stream().limit(maxPrefixTerms + 1L).toList();
+        boolean truncated = prefixed.size() > maxPrefixTerms;
+        if (!prefixed.isEmpty()) {
+            groups.add(new Group(PREFIX, truncated ? prefixed.subList(0, maxPrefixTerms) : prefixed));
+        }
+        int maxEdits = maxEdits(word);
+        if (fuzzy && maxEdits > 0) {
+            List<Postings> near = new ArrayList<>();
+            String first = word.substring(0, 1);
+            NavigableMap<String, Postings> sameInitial = postings.subMap(first, true, first + Character.MAX_VALUE, false);
+            for (Map.Entry<String, Postings> entry : sameInitial.entrySet()) {
+                String term = entry.getKey();
+                if (!term.startsWith(word) && withinEdits(word, term, maxEdits)) {
+                    near.add(entry.getValue());
+                }
+            }
+            if (!near.isEmpty()) {
+                // A prefix term cut off by the cap may still be among these assets' words
+                groups.add(new Group(truncated ? PREFIX : FUZZY, near));
+            }
+        }
+        return groups;
+    }
+
+    private int bestPossible(String word, boolean fuzzy) {
+        if (postings.containsKey(word)) {
+            return EXACT;
+        }
+        String next = postings.higherKey(word);
+        if (next != null && next.startsWith(word)) {
+            return PREFIX;
+        }
+        return fuzzy ? FUZZY : 0;
+    }
+
+    // Merges id-ordered postings into one ascending stream; an id in several lists comes out once per list
+    private static Iterator<Long> ascending(List<Postings> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0).ids().iterator();
+        }
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>(lists.size(), Comparator.comparing(Cursor::head));
+        for (Postings ids : lists) {
+            Iterator<Long> it = ids.ids().iterator();
+            if (it.hasNext()) {
+                cursors.add(new Cursor(it.next(), it));
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !cursors.isEmpty();
+            }
+
+            @Override
+            public Long next() {
+                Cursor cursor = cursors.poll();
+                if (cursor.rest().hasNext()) {
+                    cursors.add(new Cursor(cursor.rest().next(), cursor.rest()));
+                }
+                return cursor.head();
+            }
+        };
+    }
+
+    // Sum over query words of the best match against the document's words; 0 if any word is unmatched
+    private static int score(String[] terms, String[] words, boolean fuzzy) {
+        int total = 0;
+        for (String word : words) {
+            int best = 0;
+            for (String term : terms) {
+                if (term.equals(word)) {
+                    best = EXACT;
+                    break;
+                } else if (term.startsWith(word)) {
+                    best = Math.max(best, PREFIX);
+                } else if (fuzzy && best < FUZZY && withinEdits(word, term, maxEdits(word))) {
+                    best = FUZZY;
+                }
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static boolean matchesFilter(String value, String filter) {
+        return filter == null || filter.isBlank() || filter.trim().equalsIgnoreCase(value);
+    }
+
+    private static int maxEdits(String word) {
+        return word.length() <= 3 ? 0 : word.length() <= 6 ? 1 : 2;
+    }
+
+    // Levenshtein distance with a band of width maxEdits, abandoned as soon as a row exceeds it
+    static boolean withinEdits(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+        if (maxEdits == 0) {
+            return a.equals(b);
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    static String[] tokenize(String text) {
+        if (text == null) {
+            return new String[0];
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
@@ -1,31 +1,118 @@
 package com.surya.Campus_Asset_Manager.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.surya.Campus_Asset_Manager.Config.CacheConfig;
 import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.BulkItemResult;
 import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
 
+import jakarta.persistence.EntityManager;
+
 @Service
+@Timed(value = "campus.service", percentiles = {0.5, 0.99})
 public class AssetService {
+    private static final Logger log = LoggerFactory.getLogger(AssetService.class);
+
     @Autowired
     private AssetRepository assetRepository;
+    @Autowired
+    private StatsService statsService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${bulk.chunk-size:500}")
+    private int bulkChunkSize;
     
-    public List<Asset> getAllAssets() {
-        return assetRepository.findAll();
+    // Keyset page: up to limit assets with id > afterId, in id order
+    public List<Asset> getAssetsAfter(Long afterId, int limit) {
+        return assetRepository.findByIdGreaterThanOrderByIdAsc(afterId != null ? afterId : 0L, Limit.of(limit));
     }
 
+    @Cacheable(cacheNames = CacheConfig.ASSETS, key = "#id", unless = "#result == null")
     public Optional<Asset> getAssetById(Long id) {
         return assetRepository.findById(id);
     }
 
     public Asset addAsset(Asset asset) {
-        return assetRepository.save(asset);
+        Asset saved = assetRepository.save(asset);
+        statsService.evict();
+        eventPublisher.publishEvent(AssetChangedEvent.of("CREATED", saved));
+        return saved;
+    }
+
+    // Each chunk commits on its own; a failed chunk is reported per item and does not undo earlier chunks
+    public List<BulkItemResult> addAssets(List<Asset> assets) {
+        List<BulkItemResult> results = new ArrayList<>(assets.size());
+        for (int from = 0; from < assets.size(); from += bulkChunkSize) {
+            int offset = from;
+            List<Asset> chunk = assets.subList(from, Math.min(from + bulkChunkSize, assets.size()));
+            try {
+                results.addAll(transactionTemplate.execute(tx -> persistChunk(chunk, offset)));
+            } catch (RuntimeException e) {
+                // The cause can carry SQL and constraint names, so it goes to the log and not to the caller
+                log.warn("Bulk asset chunk at offset {} rolled back", offset, e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(BulkItemResult.failed(offset + i, null, BulkItemResult.CHUNK_ROLLED_BACK));
+                }
+            }
+        }
+        statsService.evict();
+        return results;
+    }
+
+    private List<BulkItemResult> persistChunk(List<Asset> chunk, int offset) {
+        BulkItemResult[] results = new BulkItemResult[chunk.size()];
+        List<Integer> persisted = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Asset asset = chunk.get(i);
+            if (asset == null || asset.getName() == null || asset.getName().isBlank()) {
+                results[i] = BulkItemResult.failed(offset + i, null, "name is required");
+            } else if (asset.getQuantity() < 0) {
+                results[i] = BulkItemResult.failed(offset + i, null, "quantity must not be negative");
+            } else {
+                asset.setId(null);
+                asset.setVersion(0);
+                entityManager.persist(asset);
+                persisted.add(i);
+            }
+        }
+        // Inserts go out here as JDBC batches of hibernate.jdbc.batch_size
+        entityManager.flush();
+        entityManager.clear();
+        for (int i : persisted) {
+            results[i] = BulkItemResult.ok(offset + i, chunk.get(i).getId());
+            // Delivered when this chunk commits
+            eventPublisher.publishEvent(AssetChangedEvent.of("CREATED", chunk.get(i)));
+        }
+        return Arrays.asList(results);
     }
 
+    @CachePut(cacheNames = CacheConfig.ASSETS, key = "#id")
     public Asset updateAsset(Long id, Asset assetDetails) {
         return assetRepository.findById(id)
             .map(asset -> {
@@ -33,18 +120,51 @@ public class AssetService {
                 asset.setType(assetDetails.getType());
                 asset.setQuantity(assetDetails.getQuantity());
                 asset.setStatus(assetDetails.getStatus());
-                return assetRepository.save(asset);
+                Asset saved = assetRepository.save(asset);
+                statsService.evict();
+                eventPublisher.publishEvent(AssetChangedEvent.of("UPDATED", saved));
+                return saved;
             })
             .orElseThrow(() -> new RuntimeException("Asset not found with id: " + id));
     }
 
+    @CacheEvict(cacheNames = CacheConfig.ASSETS, key = "#id")
     public void deleteAsset(Long id) {
         assetRepository.deleteById(id);
+        statsService.evict();
+        eventPublisher.publishEvent(AssetChangedEvent.deleted(id));
+    }
+
+    // Atomically claims one unit; false when none are left
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ASSETS, key = "#assetId")
+    public boolean reserveUnit(Long assetId) {
+        boolean reserved = assetRepository.reserveUnit(assetId) == 1;
+        if (reserved) {
+            statsService.evict();
+            publishCurrentState(assetId, "RESERVED");
+        }
+        return reserved;
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ASSETS, key = "#assetId")
+    public void releaseUnit(Long assetId) {
+        assetRepository.releaseUnit(assetId);
+        statsService.evict();
+        publishCurrentState(assetId, "RELEASED");
+    }
+
+    // The bulk UPDATE bypassed the persistence context, so re-read the row; this also brings
+    // the caller's managed copy of the asset up to date
+    private void publishCurrentState(Long assetId, String change) {
+        assetRepository.findById(assetId).ifPresent(asset -> {
+            entityManager.refresh(asset);
+            eventPublisher.publishEvent(AssetChangedEvent.of(change, asset));
+        });
     }
 
     public List<Asset> getAssetsByStatus(String status) {
-        return assetRepository.findAll().stream()
-            .filter(asset -> asset.getStatus().equalsIgnoreCase(status))
-            .toList();
+        return assetRepository.findByStatus(status.trim().toUpperCase(Locale.ROOT));
     }
 }
@@ -0,0 +1,178 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.surya.Campus_Asset_Manager.Model.RequestAudit;
+import com.surya.Campus_Asset_Manager.Model.RequestStatusChangedEvent;
+import com.surya.Campus_Asset_Manager.Repository.RequestAuditRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Records request status transitions off the request path. Committed changes are queued in memory and a
+// single writer thread inserts them in batches, so approvals never wait on audit writes. When the queue
+// is full the event is dropped and counted rather than blocking the caller.
+@Service
+public class AuditService {
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+
+    @Autowired
+    private RequestAuditRepository auditRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${audit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${audit.batch-size:200}")
+    private int batchSize;
+
+    // How long the writer waits for a batch to fill once the first event has arrived
+    @Value("${audit.linger-ms:50}")
+    private long lingerMs;
+
+    private BlockingQueue<RequestStatusChangedEvent> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter written;
+    private Counter dropped;
+    private Counter failed;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        written = Counter.builder("campus.audit.written").register(meterRegistry);
+        dropped = Counter.builder("campus.audit.dropped")
+            .description("Transitions not audited because the queue was full")
+            .register(meterRegistry);
+        failed = Counter.builder("campus.audit.failed")
+            .description("Transitions whose insert failed even on its own")
+            .register(meterRegistry);
+        Gauge.builder("campus.audit.queue", queue, BlockingQueue::size).register(meterRegistry);
+        if (enabled) {
+            running = true;
+            writer = new Thread(this::drain, "audit-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    // Drains what is already queued before the context closes
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // After commit only, so rolled-back changes are never audited; outside a transaction it runs immediately
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(RequestStatusChangedEvent event) {
+        if (enabled && !queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    public List<RequestAudit> getRequestHistory(Long requestId, Long afterId, int limit) {
+        return auditRepository.findByRequestIdAndIdGreaterThanOrderByIdAsc(requestId, afterOrZero(afterId), Limit.of(limit));
+    }
+
+    public List<RequestAudit> getAssetHistory(Long assetId, Long afterId, int limit) {
+        return auditRepository.findByAssetIdAndIdGreaterThanOrderByIdAsc(assetId, afterOrZero(afterId), Limit.of(limit));
+    }
+
+    public List<RequestAudit> getUserHistory(Long userId, Long afterId, int limit) {
+        return auditRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterOrZero(afterId), Limit.of(limit));
+    }
+
+    private static long afterOrZero(Long afterId) {
+        return afterId != null ? afterId : 0L;
+    }
+
+    private void drain() {
+        List<RequestStatusChangedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                RequestStatusChangedEvent first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    // Under load the batch fills at once; when idle a lone event goes out after at most lingerMs
+    private void fill(List<RequestStatusChangedEvent> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            RequestStatusChangedEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<RequestStatusChangedEvent> batch) {
+        try {
+            insert(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException batchFailure) {
+            // One bad row must not take the rest of the batch with it: retry one by one, each in its own transaction
+            for (RequestStatusChangedEvent event : batch) {
+                try {
+                    insert(List.of(event));
+                    written.increment();
+                } catch (RuntimeException e) {
+                    failed.increment();
+                    log.warn("Audit row for request {} ({} -> {}) not written", event.requestId(), event.fromStatus(),
+                            event.toStatus(), e);
+                }
+            }
+        }
+    }
+
+    // Rows are built fresh on every attempt, so a retry never reuses ids handed out to a rolled-back insert
+    private void insert(List<RequestStatusChangedEvent> events) {
+        List<RequestAudit> rows = events.stream().map(RequestAudit::of).toList();
+        transactionTemplate.executeWithoutResult(tx -> auditRepository.saveAll(rows));
+    }
+}
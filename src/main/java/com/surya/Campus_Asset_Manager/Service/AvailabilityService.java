@@ -0,0 +1,346 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.surya.Campus_Asset_Manager.Exception.AssetUnavailableException;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.AvailableAsset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.Reservation;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+// Time-windowed bookings. Reservations are decided in the database: every approval, windowed or not, locks
+// the asset row and counts the approved windows stored for it, so two instances can never overbook a unit.
+// Availability lookups are served from memory. Each asset has a timeline of its approved windows sorted by
+// start; a lookup binary-searches to the first window that could still overlap and scans forward, so it
+// costs O(log n + overlaps) per asset instead of a scan over all requests. Timelines are immutable and
+// swapped on change, so reads take no lock. They are loaded at startup and then follow the bookings
+// committed through this instance, so with several instances a lookup may miss another instance's
+// newest bookings; the approval itself still refuses them.
+@Service
+public class AvailabilityService implements SmartInitializingSingleton {
+
+    private static final int STRIPES = 256;
+    private static final int LOAD_PAGE = 5000;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private record Booking(long requestId, long start, long end) {
+    }
+
+    private record AssetState(Long id, String name, String type, String status, int quantity) {
+    }
+
+    private record Timeline(Booking[] bookings, long maxDuration) {
+
+        static final Timeline EMPTY = new Timeline(new Booking[0], 0);
+
+        Timeline with(Booking booking) {
+            int at = firstStartingAtOrAfter(booking.start());
+            Booking[] next = new Booking[bookings.length + 1];
+            System.arraycopy(bookings, 0, next, 0, at);
+            next[at] = booking;
+            System.arraycopy(bookings, at, next, at + 1, bookings.length - at);
+            return new Timeline(next, Math.max(maxDuration, booking.end() - booking.start()));
+        }
+
+        // maxDuration is left as is; an overestimate only widens the scan slightly
+        Timeline without(long requestId) {
+            Booking[] next = Arrays.stream(bookings)
+                .filter(booking -> booking.requestId() != requestId)
+                .toArray(Booking[]::new);
+            return next.length == 0 ? null : new Timeline(next, maxDuration);
+        }
+
+        // Anything overlapping [from, to) starts before to, and no earlier than from - maxDuration
+        List<Booking> overlapping(long from, long to) {
+            List<Booking> result = new ArrayList<>();
+            for (int i = firstStartingAtOrAfter(from - maxDuration); i < bookings.length && bookings[i].start() < to; i++) {
+                if (bookings[i].end() > from) {
+                    result.add(bookings[i]);
+                }
+            }
+            return result;
+        }
+
+        private int firstStartingAtOrAfter(long time) {
+            int low = 0;
+            int high = bookings.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (bookings[mid].start() < time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private final Object[] stripes = new Object[STRIPES];
+    private final Map<Long, AssetState> assets = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> allAssetIds = new ConcurrentSkipListSet<>();
+    private final Map<String, NavigableSet<Long>> assetIdsByType = new ConcurrentHashMap<>();
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+    private final Map<Long, Long> bookedAssetByRequest = new ConcurrentHashMap<>();
+
+    public AvailabilityService() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long after = 0;
+        List<Asset> page;
+        do {
+            page = assetRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(LOAD_PAGE));
+            for (Asset asset : page) {
+                putAsset(new AssetState(asset.getId(), asset.getName(), asset.getType(), asset.getStatus(), asset.getQuantity()));
+                after = asset.getId();
+            }
+        } while (page.size() == LOAD_PAGE);
+
+        // Finished bookings can never overlap a future query, so they are not loaded
+        Date now = new Date();
+        after = 0;
+        List<Reservation> reservations;
+        do {
+            reservations = requestRepository.findReservationsAfter(after, now, Limit.of(LOAD_PAGE));
+            for (Reservation reservation : reservations) {
+                insert(reservation.assetId(), new Booking(reservation.requestId(),
+                    reservation.start().getTime(), reservation.end().getTime()));
+                after = reservation.requestId();
+            }
+        } while (reservations.size() == LOAD_PAGE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if ("DELETED".equals(event.change())) {
+            removeAsset(event.id());
+        } else {
+            putAsset(new AssetState(event.id(), event.name(), event.type(), event.status(),
+                event.quantity() != null ? event.quantity() : 0));
+        }
+    }
+
+    // Assets of the given type (any type when null) with a unit free for the whole of [from, to), by id
+    public List<AvailableAsset> findAvailable(String type, Date from, Date to, int limit) {
+        NavigableSet<Long> candidates = type == null || type.isBlank()
+            ? allAssetIds
+            : assetIdsByType.getOrDefault(typeKey(type), new ConcurrentSkipListSet<>());
+        long start = from.getTime();
+        long end = to.getTime();
+        List<AvailableAsset> available = new ArrayList<>();
+        for (Long id : candidates) {
+            AssetState asset = assets.get(id);
+            if (asset == null) {
+                continue;
+            }
+            int free = freeUnits(asset, start, end);
+            if (free > 0) {
+                available.add(new AvailableAsset(asset.id(), asset.name(), asset.type(), asset.status(), free));
+                if (available.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return available;
+    }
+
+    public List<Reservation> getReservations(Long assetId, Date from, Date to) {
+        Timeline timeline = timelines.getOrDefault(assetId, Timeline.EMPTY);
+        return timeline.overlapping(from.getTime(), to.getTime()).stream()
+            .map(booking -> new Reservation(booking.requestId(), assetId, new Date(booking.start()), new Date(booking.end())))
+            .toList();
+    }
+
+    // Claims one unit for the window or throws; must run in the caller's transaction, which keeps the asset
+    // row locked until it stores the approval. The timeline picks the booking up once that commits.
+    public void book(Long requestId, Long assetId, Date start, Date end) {
+        if (lockedFreeUnits(assetId, start, end) < 1) {
+            throw new AssetUnavailableException("Asset " + assetId + " has no unit free between "
+                + start.toInstant() + " and " + end.toInstant());
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addToTimeline(requestId, assetId, start, end);
+            }
+        });
+    }
+
+    // Checks that one unit can be taken until further notice: the count left after it must still cover every
+    // window booked from now on. Locks the asset row like book(); the caller then decrements the count.
+    public void checkOpenEndedUnit(Long assetId) {
+        if (lockedFreeUnits(assetId, new Date(), null) < 1) {
+            throw new AssetUnavailableException("Asset " + assetId + " has no units left to reserve");
+        }
+    }
+
+    // Records a committed booking for lookups
+    void addToTimeline(Long requestId, Long assetId, Date start, Date end) {
+        insert(assetId, new Booking(requestId, start.getTime(), end.getTime()));
+    }
+
+    // Frees the request's window once the caller's transaction commits
+    public void release(Long requestId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(requestId);
+                }
+            });
+        } else {
+            remove(requestId);
+        }
+    }
+
+    // Units free at the busiest moment of [from, to), or from `from` on when to is null, as stored in the
+    // database. The refresh re-reads the asset under a row lock, so concurrent approvals of it queue here.
+    private int lockedFreeUnits(Long assetId, Date from, Date to) {
+        Asset asset = entityManager.find(Asset.class, assetId);
+        if (asset == null) {
+            return 0;
+        }
+        entityManager.refresh(asset, LockModeType.PESSIMISTIC_WRITE);
+        if ("MAINTENANCE".equals(asset.getStatus())) {
+            return 0;
+        }
+        long end = to != null ? to.getTime() : Long.MAX_VALUE;
+        List<Booking> overlapping = new ArrayList<>();
+        for (Request window : requestRepository.lockApprovedWindows(assetId, from)) {
+            if (window.getStartTime().getTime() < end) {
+                overlapping.add(new Booking(window.getId(), window.getStartTime().getTime(), window.getEndTime().getTime()));
+            }
+        }
+        return asset.getQuantity() - peakConcurrent(overlapping, from.getTime(), end);
+    }
+
+    // Units still free at the busiest moment of [from, to) according to the timeline
+    private int freeUnits(AssetState asset, long from, long to) {
+        if ("MAINTENANCE".equals(asset.status())) {
+            return 0;
+        }
+        List<Booking> overlapping = timelines.getOrDefault(asset.id(), Timeline.EMPTY).overlapping(from, to);
+        return asset.quantity() - peakConcurrent(overlapping, from, to);
+    }
+
+    private static int peakConcurrent(List<Booking> bookings, long from, long to) {
+        int n = bookings.size();
+        if (n < 2) {
+            return n;
+        }
+        long[] starts = new long[n];
+        long[] ends = new long[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = Math.max(bookings.get(i).start(), from);
+            ends[i] = Math.min(bookings.get(i).end(), to);
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        int current = 0;
+        int peak = 0;
+        int i = 0;
+        int j = 0;
+        while (i < n) {
+            if (starts[i] < ends[j]) {
+                current++;
+                peak = Math.max(peak, current);
+                i++;
+            } else {
+                current--;
+                j++;
+            }
+        }
+        return peak;
+    }
+
+    private void insert(Long assetId, Booking booking) {
+        synchronized (stripe(assetId)) {
+            timelines.compute(assetId, (id, timeline) -> (timeline != null ? timeline : Timeline.EMPTY).with(booking));
+            bookedAssetByRequest.put(booking.requestId(), assetId);
+        }
+    }
+
+    private void remove(Long requestId) {
+        Long assetId = bookedAssetByRequest.remove(requestId);
+        if (assetId == null) {
+            return;
+        }
+        synchronized (stripe(assetId)) {
+            timelines.computeIfPresent(assetId, (id, timeline) -> timeline.without(requestId));
+        }
+    }
+
+    private void putAsset(AssetState asset) {
+        AssetState previous = assets.put(asset.id(), asset);
+        if (previous != null && previous.type() != null && !previous.type().equalsIgnoreCase(String.valueOf(asset.type()))) {
+            NavigableSet<Long> ids = assetIdsByType.get(typeKey(previous.type()));
+            if (ids != null) {
+                ids.remove(asset.id());
+            }
+        }
+        allAssetIds.add(asset.id());
+        if (asset.type() != null) {
+            assetIdsByType.computeIfAbsent(typeKey(asset.type()), key -> new ConcurrentSkipListSet<>()).add(asset.id());
+        }
+    }
+
+    private void removeAsset(Long id) {
+        AssetState previous = assets.remove(id);
+        allAssetIds.remove(id);
+        if (previous != null && previous.type() != null) {
+            NavigableSet<Long> ids = assetIdsByType.get(typeKey(previous.type()));
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+        Timeline timeline = timelines.remove(id);
+        if (timeline != null) {
+            for (Booking booking : timeline.bookings()) {
+                bookedAssetByRequest.remove(booking.requestId());
+            }
+        }
+    }
+
+    private Object stripe(Long assetId) {
+        return stripes[Math.floorMod(assetId.hashCode(), STRIPES)];
+    }
+
+    private static String typeKey(String type) {
+        return type.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,161 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.RequestStatusChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// Pushes committed request and asset changes to connected browsers over server-sent events.
+// Each subscriber has a bounded buffer drained by its own virtual thread, so a slow connection
+// never holds up a write or the other subscribers. A subscriber whose buffer overflows is
+// disconnected; the browser reconnects and reloads its lists.
+@Service
+public class ChangeFeedService {
+
+    @Value("${sse.buffer-size:1000}")
+    private int bufferSize;
+
+    @Value("${sse.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${sse.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private Counter evicted;
+
+    private record Message(long id, String name, Object data) {
+    }
+
+    @PostConstruct
+    void init() {
+        evicted = Counter.builder("campus.sse.evicted")
+            .description("Subscribers disconnected because their buffer overflowed")
+            .register(meterRegistry);
+        Gauge.builder("campus.sse.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    // Students see their own requests; admins see every request. Asset changes go to everyone.
+    public Optional<SseEmitter> subscribe(Long userId, boolean admin) {
+        if (subscribers.size() >= maxSubscribers) {
+            return Optional.empty();
+        }
+        Subscriber subscriber = new Subscriber(userId, admin, new SseEmitter(timeoutMs));
+        subscribers.add(subscriber);
+        subscriber.start();
+        return Optional.of(subscriber.emitter);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestChanged(RequestStatusChangedEvent event) {
+        broadcast("request", event, subscriber -> subscriber.admin || Objects.equals(subscriber.userId, event.userId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        broadcast("asset", event, subscriber -> true);
+    }
+
+    private void broadcast(String name, Object data, Predicate<Subscriber> audience) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Message message = new Message(sequence.incrementAndGet(), name, data);
+        for (Subscriber subscriber : subscribers) {
+            if (audience.test(subscriber)) {
+                subscriber.offer(message);
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final boolean admin;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Message> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private volatile boolean closed;
+        private Thread sender;
+
+        Subscriber(Long userId, boolean admin, SseEmitter emitter) {
+            this.userId = userId;
+            this.admin = admin;
+            this.emitter = emitter;
+            emitter.onCompletion(this::close);
+            emitter.onTimeout(this::close);
+            emitter.onError(error -> close());
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("sse-" + userId).start(this::send);
+        }
+
+        // Called on the writing thread: never blocks
+        void offer(Message message) {
+            if (!closed && !buffer.offer(message)) {
+                evicted.increment();
+                close();
+            }
+        }
+
+        // Only marks the subscriber closed; the sender thread completes the emitter, since
+        // that can wait behind a send that is stuck on a slow socket
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            if (sender != null && sender != Thread.currentThread()) {
+                sender.interrupt();
+            }
+        }
+
+        private void send() {
+            try {
+                emitter.send(SseEmitter.event().reconnectTime(3000).comment("connected"));
+                while (!closed) {
+                    Message message = buffer.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (message == null) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    } else if (!closed) {
+                        emitter.send(SseEmitter.event()
+                            .id(String.valueOf(message.id()))
+                            .name(message.name())
+                            .data(message.data(), MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException | InterruptedException e) {
+                // Client went away, emitter timed out, or we evicted it
+            } finally {
+                close();
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Writes whole tables as newline-delimited JSON without materializing them.
+// Rows are flattened so no password hashes or nested graphs leave the server.
+@Service
+public class ExportService {
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private record AssetRow(Long id, String name, String type, int quantity, String status) {
+    }
+
+    @Transactional(readOnly = true)
+    public void writeRequests(OutputStream out) throws IOException {
+        // Summaries are not managed, so there is nothing to clear from the persistence context
+        try (Stream<RequestSummary> requests = requestRepository.streamSummariesForExport()) {
+            writeNdjson(out, requests.iterator(), 0, summary -> summary);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeAssets(OutputStream out) throws IOException {
+        try (Stream<Asset> assets = assetRepository.streamAllForExport()) {
+            writeNdjson(out, assets.iterator(), AssetRepository.EXPORT_FETCH_SIZE, asset -> new AssetRow(
+                    asset.getId(),
+                    asset.getName(),
+                    asset.getType(),
+                    asset.getQuantity(),
+                    asset.getStatus()));
+        }
+    }
+
+    private <T> void writeNdjson(OutputStream out, Iterator<T> rows, int clearEvery,
+                                 Function<T, Object> toRow) throws IOException {
+        try (JsonGenerator json = objectMapper.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            int written = 0;
+            while (rows.hasNext()) {
+                json.writeObject(toRow.apply(rows.next()));
+                json.writeRaw('\n');
+                // Drop already-written entities so the persistence context stays bounded
+                if (clearEvery > 0 && ++written % clearEvery == 0) {
+                    json.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.User;
+
+// Append-only JSON-lines log behind RequestIntakeQueue: an ACCEPTED line before a request is acknowledged,
+// a CREATED or FAILED line once its batch is settled. Appends are group-committed: callers arriving
+// while an fsync is in flight share the next one instead of paying for their own.
+class IntakeJournal implements AutoCloseable {
+
+    static final String ACCEPTED = "ACCEPTED";
+    static final String CREATED = "CREATED";
+    static final String FAILED = "FAILED";
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Entry(String op, String ticket, Long userId, Long assetId, String comments,
+                 Date requestDate, Date startTime, Date endTime, Long requestId) {
+
+        static Entry accepted(String ticket, Request request, Date requestDate) {
+            return new Entry(ACCEPTED, ticket, request.getUser().getId(), request.getAsset().getId(),
+                request.getComments(), requestDate, request.getStartTime(), request.getEndTime(), null);
+        }
+
+        static Entry settled(String op, String ticket, Long requestId) {
+            return new Entry(op, ticket, null, null, null, null, null, null, requestId);
+        }
+
+        // A fresh entity on every call, so a retry never reuses an id assigned in a rolled-back transaction
+        Request toRequest() {
+            User user = new User();
+            user.setId(userId);
+            Asset asset = new Asset();
+            asset.setId(assetId);
+            Request request = new Request();
+            request.setUser(user);
+            request.setAsset(asset);
+            request.setComments(comments);
+            request.setRequestDate(requestDate);
+            request.setStartTime(startTime);
+            request.setEndTime(endTime);
+            request.setIntakeTicket(ticket);
+            return request;
+        }
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final boolean sync;
+
+    private final Object appendLock = new Object();
+    private final Object syncLock = new Object();
+    private FileChannel channel;
+    private long appended;
+    private long synced;
+    private long outstanding;
+
+    IntakeJournal(Path path, ObjectMapper objectMapper, boolean sync) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        this.sync = sync;
+    }
+
+    // Reads back the accepted entries that were never settled, in order, and rewrites the file to hold only those.
+    // A torn last line from a crash mid-append is skipped; it was never acknowledged.
+    List<Entry> open() throws IOException {
+        Map<String, Entry> unsettled = new LinkedHashMap<>();
+        if (Files.exists(path)) {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (JsonProcessingException e) {
+                    continue;
+                }
+                if (ACCEPTED.equals(entry.op())) {
+                    unsettled.put(entry.ticket(), entry);
+                } else {
+                    unsettled.remove(entry.ticket());
+                }
+            }
+        } else if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, encode(new ArrayList<>(unsettled.values())));
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        outstanding = unsettled.size();
+        return new ArrayList<>(unsettled.values());
+    }
+
+    // Returns once the entries are on disk (or handed to the OS when sync is off)
+    void append(List<Entry> entries) throws IOException {
+        ByteBuffer bytes = encode(entries);
+        long mine;
+        synchronized (appendLock) {
+            write(channel, bytes);
+            for (Entry entry : entries) {
+                outstanding += ACCEPTED.equals(entry.op()) ? 1 : -1;
+            }
+            mine = ++appended;
+        }
+        if (sync) {
+            awaitSync(mine);
+        }
+    }
+
+    // Starts the file over once it has grown past maxBytes and every accepted entry has been settled
+    void truncateIfSettled(long maxBytes) throws IOException {
+        synchronized (appendLock) {
+            if (outstanding == 0 && channel.size() > maxBytes) {
+                channel.truncate(0);
+                channel.force(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    private void awaitSync(long mine) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= mine) {
+                return;
+            }
+            long target;
+            synchronized (appendLock) {
+                target = appended;
+            }
+            channel.force(false);
+            synced = target;
+        }
+    }
+
+    private ByteBuffer encode(List<Entry> entries) {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            try {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(FileChannel out, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+}
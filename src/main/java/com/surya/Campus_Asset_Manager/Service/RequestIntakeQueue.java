@@ -0,0 +1,291 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.surya.Campus_Asset_Manager.Exception.PendingLimitExceededException;
+import com.surya.Campus_Asset_Manager.Model.IntakeTicket;
+import com.surya.Campus_Asset_Manager.Model.Request;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Opt-in write-behind path for request creation. A request is journaled, queued and acknowledged with a
+// provisional ticket; one writer thread inserts queued requests in grouped transactions of up to batch-size,
+// so throughput follows batch size rather than commit latency. Entries not yet settled in the journal are
+// replayed at the next start, skipping any whose rows were committed just before a crash.
+@Service
+public class RequestIntakeQueue {
+    private static final Logger log = LoggerFactory.getLogger(RequestIntakeQueue.class);
+
+    private static final int REPLAY_LOOKUP_CHUNK = 1000;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${intake.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${intake.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${intake.batch-size:500}")
+    private int batchSize;
+
+    // How long the writer waits for a batch to fill once the first request has arrived
+    @Value("${intake.linger-ms:20}")
+    private long lingerMs;
+
+    @Value("${intake.journal-path:data/request-intake.journal}")
+    private String journalPath;
+
+    // fsync before acknowledging; off only survives a process crash, not a power loss
+    @Value("${intake.journal-sync:true}")
+    private boolean journalSync;
+
+    @Value("${intake.journal-max-bytes:67108864}")
+    private long journalMaxBytes;
+
+    private final BlockingQueue<IntakeJournal.Entry> queue = new LinkedBlockingQueue<>();
+    private final Cache<String, IntakeTicket> tickets = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+
+    // Accepted but unsettled requests per user, counted against the pending cap along with the stored ones
+    private final ConcurrentHashMap<Long, Integer> queuedByUser = new ConcurrentHashMap<>();
+
+    // Queue slots; taken before journaling so a full queue is refused without touching the disk
+    private Semaphore capacity;
+    private IntakeJournal journal;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter created;
+    private Counter failed;
+    private Counter rejected;
+    private DistributionSummary batchSizes;
+
+    @PostConstruct
+    void start() throws IOException {
+        created = Counter.builder("campus.intake.created").register(meterRegistry);
+        failed = Counter.builder("campus.intake.failed")
+            .description("Queued requests the database refused")
+            .register(meterRegistry);
+        rejected = Counter.builder("campus.intake.rejected")
+            .description("Requests turned away because the queue was full")
+            .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("campus.intake.batch").register(meterRegistry);
+        Gauge.builder("campus.intake.queue", queue, BlockingQueue::size).register(meterRegistry);
+        if (!enabled) {
+            return;
+        }
+
+        journal = new IntakeJournal(Path.of(journalPath), objectMapper, journalSync);
+        List<IntakeJournal.Entry> replay = journal.open();
+        capacity = new Semaphore(queueCapacity);
+        requeue(replay);
+
+        running = true;
+        writer = new Thread(this::drain, "request-intake-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Writes out what is already queued before the context closes
+    @PreDestroy
+    void stop() throws InterruptedException, IOException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Empty when the queue is full; the caller should retry later. Throws PendingLimitExceededException when the
+    // user's stored and queued pending requests already reach requests.max-pending-per-user.
+    public Optional<IntakeTicket> submit(Request request) {
+        if (!capacity.tryAcquire()) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        Long userId = request.getUser().getId();
+        // Counted before the check, so concurrent submissions by one user see each other
+        int userQueued = queuedByUser.merge(userId, 1, Integer::sum);
+        try {
+            requestService.checkPendingLimit(userId, userQueued - 1);
+        } catch (RuntimeException e) {
+            unqueue(userId);
+            capacity.release();
+            throw e;
+        }
+        String ticket = UUID.randomUUID().toString();
+        IntakeJournal.Entry entry = IntakeJournal.Entry.accepted(ticket, request, new Date());
+        try {
+            journal.append(List.of(entry));
+        } catch (IOException e) {
+            unqueue(userId);
+            capacity.release();
+            throw new UncheckedIOException("Could not journal request", e);
+        }
+        IntakeTicket queued = IntakeTicket.queued(ticket);
+        tickets.put(ticket, queued);
+        queue.add(entry);
+        return Optional.of(queued);
+    }
+
+    // Tickets are remembered for an hour after their last change
+    public Optional<IntakeTicket> getTicket(String ticket) {
+        return Optional.ofNullable(tickets.getIfPresent(ticket));
+    }
+
+    private void requeue(List<IntakeJournal.Entry> replay) throws IOException {
+        Set<String> stored = new HashSet<>();
+        for (int from = 0; from < replay.size(); from += REPLAY_LOOKUP_CHUNK) {
+            List<String> chunk = replay.subList(from, Math.min(from + REPLAY_LOOKUP_CHUNK, replay.size())).stream()
+                .map(IntakeJournal.Entry::ticket)
+                .toList();
+            stored.addAll(requestService.findStoredIntakeTickets(chunk));
+        }
+        List<IntakeJournal.Entry> settled = new ArrayList<>();
+        for (IntakeJournal.Entry entry : replay) {
+            if (stored.contains(entry.ticket())) {
+                settled.add(IntakeJournal.Entry.settled(IntakeJournal.CREATED, entry.ticket(), null));
+            } else {
+                // Replayed entries may briefly exceed queue-capacity; they were acknowledged before the restart
+                capacity.tryAcquire();
+                queuedByUser.merge(entry.userId(), 1, Integer::sum);
+                tickets.put(entry.ticket(), IntakeTicket.queued(entry.ticket()));
+                queue.add(entry);
+            }
+        }
+        if (!settled.isEmpty()) {
+            journal.append(settled);
+        }
+    }
+
+    private void drain() {
+        List<IntakeJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IntakeJournal.Entry first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                capacity.release(batch.size());
+                // Settled rows are either stored, and counted by the database, or failed
+                batch.forEach(entry -> unqueue(entry.userId()));
+                batch.clear();
+            }
+        }
+    }
+
+    private void unqueue(Long userId) {
+        queuedByUser.computeIfPresent(userId, (id, queued) -> queued > 1 ? queued - 1 : null);
+    }
+
+    // Same shape as AuditService.fill: full batches under load, a lone request after at most lingerMs
+    private void fill(List<IntakeJournal.Entry> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            IntakeJournal.Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<IntakeJournal.Entry> batch) {
+        List<IntakeJournal.Entry> settled = new ArrayList<>(batch.size());
+        try {
+            List<Request> saved = requestService.createRequests(batch.stream().map(IntakeJournal.Entry::toRequest).toList());
+            for (Request request : saved) {
+                settled.add(markCreated(request));
+            }
+            batchSizes.record(saved.size());
+        } catch (RuntimeException batchFailure) {
+            // One bad row (say, an asset deleted since it was queued) must not sink the rest: retry one by one
+            for (IntakeJournal.Entry entry : batch) {
+                try {
+                    settled.add(markCreated(requestService.createRequests(List.of(entry.toRequest())).get(0)));
+                } catch (PendingLimitExceededException e) {
+                    // Written for the client, as on the synchronous path
+                    settled.add(markFailed(entry.ticket(), e.getMessage()));
+                } catch (RuntimeException e) {
+                    log.warn("Queued request {} could not be saved", entry.ticket(), e);
+                    settled.add(markFailed(entry.ticket(), IntakeTicket.NOT_SAVED));
+                }
+            }
+        }
+        try {
+            journal.append(settled);
+            journal.truncateIfSettled(journalMaxBytes);
+        } catch (IOException e) {
+            // The rows are committed; a replay would find their tickets in the table and skip them
+        }
+    }
+
+    private IntakeJournal.Entry markCreated(Request request) {
+        created.increment();
+        tickets.put(request.getIntakeTicket(), IntakeTicket.created(request.getIntakeTicket(), request.getId()));
+        return IntakeJournal.Entry.settled(IntakeJournal.CREATED, request.getIntakeTicket(), request.getId());
+    }
+
+    private IntakeJournal.Entry markFailed(String ticket, String reason) {
+        failed.increment();
+        tickets.put(ticket, IntakeTicket.failed(ticket, reason));
+        return IntakeJournal.Entry.settled(IntakeJournal.FAILED, ticket, null);
+    }
+}
@@ -1,80 +1,298 @@
 package com.surya.Campus_Asset_Manager.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.surya.Campus_Asset_Manager.Exception.AssetUnavailableException;
+import com.surya.Campus_Asset_Manager.Exception.PendingLimitExceededException;
+import com.surya.Campus_Asset_Manager.Model.BulkItemResult;
 import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestStatusChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.RequestSummary;
+import com.surya.Campus_Asset_Manager.Model.StatusUpdate;
+import com.surya.Campus_Asset_Manager.Model.UserPendingCount;
 import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
-import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
 import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Security.JwtUserPrincipal;
+
+import jakarta.persistence.EntityManager;
 
 @Service
+@Timed(value = "campus.service", percentiles = {0.5, 0.99})
 public class RequestService {
+    private static final Logger log = LoggerFactory.getLogger(RequestService.class);
+
     @Autowired
     private RequestRepository requestRepository;
     @Autowired
-    private AssetRepository assetRepository;
+    private AssetService assetService;
+    @Autowired
+    private AvailabilityService availabilityService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private StatsService statsService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${bulk.chunk-size:500}")
+    private int bulkChunkSize;
+
+    // Open PENDING requests one user may have at a time; 0 turns the cap off
+    private final int maxPendingPerUser;
+
+    public RequestService(@Value("${requests.max-pending-per-user:5}") int maxPendingPerUser) {
+        this.maxPendingPerUser = maxPendingPerUser;
+    }
 
-    public List<Request> getAllRequests() {
-        return requestRepository.findAll();
+    public List<RequestSummary> getRequestsAfter(Long afterId, int limit) {
+        return requestRepository.findSummariesAfter(afterId != null ? afterId : 0L, Limit.of(limit));
     }
 
-    public Optional<Request> getRequestById(Long id) {
-        return requestRepository.findById(id);
+    public Optional<RequestSummary> getRequestById(Long id) {
+        return requestRepository.findSummaryById(id);
     }
 
     public Request createRequest(Request request) {
+        checkPendingLimit(request.getUser().getId());
         request.setRequestDate(new Date());
         request.setStatus("PENDING");
-        return requestRepository.save(request);
+        Request saved = requestRepository.save(request);
+        publishTransition(saved, null, "PENDING", saved.getComments());
+        statsService.evict();
+        return saved;
     }
 
+    // One indexed count; concurrent creations by the same user can still overshoot the cap by a request or two
+    public void checkPendingLimit(Long userId) {
+        checkPendingLimit(userId, 0);
+    }
+
+    // queued: the user's requests accepted by RequestIntakeQueue but not inserted yet
+    public void checkPendingLimit(Long userId, int queued) {
+        if (maxPendingPerUser > 0
+                && requestRepository.countByUserIdAndStatus(userId, "PENDING") + queued >= maxPendingPerUser) {
+            throw limitExceeded(userId);
+        }
+    }
+
+    // Inserts already-dated requests in one transaction; the pooled id sequence lets Hibernate send them as
+    // JDBC batches. Used by RequestIntakeQueue, so there is no authenticated actor to record.
+    @Transactional
+    public List<Request> createRequests(List<Request> requests) {
+        checkPendingLimits(requests);
+        requests.forEach(request -> request.setStatus("PENDING"));
+        List<Request> saved = requestRepository.saveAll(requests);
+        saved.forEach(request -> publishTransition(request, null, "PENDING", request.getComments()));
+        statsService.evict();
+        return saved;
+    }
+
+    // Queued and replayed requests are held to the cap as well. A batch that would take any user past it is
+    // refused whole; RequestIntakeQueue then retries row by row, so only that user's surplus requests fail.
+    private void checkPendingLimits(List<Request> requests) {
+        if (maxPendingPerUser <= 0) {
+            return;
+        }
+        Map<Long, Long> pending = requests.stream()
+            .collect(Collectors.groupingBy(request -> request.getUser().getId(), Collectors.counting()));
+        for (UserPendingCount stored : requestRepository.countPendingByUserIdIn(pending.keySet())) {
+            pending.merge(stored.getUserId(), stored.getCount(), Long::sum);
+        }
+        pending.forEach((userId, count) -> {
+            if (count > maxPendingPerUser) {
+                throw limitExceeded(userId);
+            }
+        });
+    }
+
+    private PendingLimitExceededException limitExceeded(Long userId) {
+        return new PendingLimitExceededException("User " + userId + " already has " + maxPendingPerUser
+            + " pending requests; wait for a decision before requesting more");
+    }
+
+    // Tickets among those given whose requests are already stored
+    public List<String> findStoredIntakeTickets(Collection<String> tickets) {
+        return requestRepository.findIntakeTicketsIn(tickets);
+    }
+
+    @Transactional
     public Request updateRequestStatus(Long id, String status, String comments) {
         return requestRepository.findById(id)
             .map(request -> {
-                String previous = request.getStatus();
-                request.setStatus(status);
-                if (comments != null) {
-                    request.setComments(comments);
-                }
-                // If approved, mark the associated asset as RESERVED
-                if (status != null && status.equalsIgnoreCase("APPROVED")) {
-                    Asset asset = request.getAsset();
-                    if (asset != null) {
-                        asset.setStatus("RESERVED");
-                        assetRepository.save(asset);
-                    }
-                }
-                // If request was previously APPROVED and now changed to something else, free the asset
-                if (previous != null && previous.equalsIgnoreCase("APPROVED") && !status.equalsIgnoreCase("APPROVED")) {
-                    Asset asset = request.getAsset();
-                    if (asset != null) {
-                        asset.setStatus("AVAILABLE");
-                        assetRepository.save(asset);
-                    }
-                }
-                return requestRepository.save(request);
+                applyStatusChange(request, status, comments);
+                Request saved = requestRepository.save(request);
+                statsService.evict();
+                return saved;
             })
             .orElseThrow(() -> new RuntimeException("Request not found with id: " + id));
     }
 
-    public void deleteRequest(Long id) {
-        requestRepository.deleteById(id);
+    // Chunked like AssetService.addAssets; items that conflict fail individually without rolling back their chunk
+    public List<BulkItemResult> updateRequestStatuses(List<StatusUpdate> updates) {
+        List<BulkItemResult> results = new ArrayList<>(updates.size());
+        for (int from = 0; from < updates.size(); from += bulkChunkSize) {
+            int offset = from;
+            List<StatusUpdate> chunk = updates.subList(from, Math.min(from + bulkChunkSize, updates.size()));
+            try {
+                results.addAll(transactionTemplate.execute(tx -> applyChunk(chunk, offset)));
+            } catch (RuntimeException e) {
+                log.warn("Bulk status chunk at offset {} rolled back", offset, e);
+                for (int i = 0; i < chunk.size(); i++) {
+                    StatusUpdate update = chunk.get(i);
+                    results.add(BulkItemResult.failed(offset + i, update != null ? update.id() : null,
+                            BulkItemResult.CHUNK_ROLLED_BACK));
+                }
+            }
+        }
+        statsService.evict();
+        return results;
     }
 
-    public List<Request> getRequestsByStatus(String status) {
-        return requestRepository.findAll().stream()
-            .filter(request -> request.getStatus().equalsIgnoreCase(status))
+    private List<BulkItemResult> applyChunk(List<StatusUpdate> chunk, int offset) {
+        List<Long> ids = chunk.stream()
+            .filter(update -> update != null && update.id() != null)
+            .map(StatusUpdate::id)
             .toList();
+        Map<Long, Request> requests = new HashMap<>();
+        for (Request request : requestRepository.findAllById(ids)) {
+            requests.put(request.getId(), request);
+        }
+
+        List<BulkItemResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            StatusUpdate update = chunk.get(i);
+            if (update == null || update.id() == null || update.status() == null || update.status().isBlank()) {
+                results.add(BulkItemResult.failed(offset + i, update != null ? update.id() : null, "id and status are required"));
+                continue;
+            }
+            Request request = requests.get(update.id());
+            if (request == null) {
+                results.add(BulkItemResult.failed(offset + i, update.id(), "Request not found"));
+                continue;
+            }
+            try {
+                applyStatusChange(request, update.status(), update.comments());
+                results.add(BulkItemResult.ok(offset + i, update.id()));
+            } catch (AssetUnavailableException e) {
+                results.add(BulkItemResult.failed(offset + i, update.id(), e.getMessage()));
+            }
+        }
+        // Dirty requests are written here as batched versioned UPDATEs
+        entityManager.flush();
+        entityManager.clear();
+        return results;
     }
 
-    public List<Request> getRequestsByUserId(Long userId) {
-        return requestRepository.findAll().stream()
-            .filter(request -> request.getUser().getId().equals(userId))
-            .toList();
+    // Moves the request to its new status and keeps the asset's unit count in step.
+    // Windowed requests hold a unit only for [startTime, endTime) instead of decrementing the count.
+    // Both kinds are checked against the other under the asset's row lock (see AvailabilityService).
+    // Throws before touching the request when no unit can be reserved.
+    private void applyStatusChange(Request request, String status, String comments) {
+        String previous = request.getStatus();
+        boolean wasApproved = "APPROVED".equalsIgnoreCase(previous);
+        boolean approving = "APPROVED".equalsIgnoreCase(status);
+        Asset asset = request.getAsset();
+        if (asset != null && approving && !wasApproved) {
+            if (request.hasWindow()) {
+                availabilityService.book(request.getId(), asset.getId(), request.getStartTime(), request.getEndTime());
+            } else {
+                availabilityService.checkOpenEndedUnit(asset.getId());
+                // Conditional decrement in the database; reserveUnit/releaseUnit re-read the asset,
+                // so our managed copy reflects the new count
+                if (!assetService.reserveUnit(asset.getId())) {
+                    throw new AssetUnavailableException("Asset " + asset.getId() + " has no units left to reserve");
+                }
+            }
+        }
+        // If request was previously APPROVED and now changed to something else, free the unit
+        if (asset != null && wasApproved && !approving) {
+            release(request);
+        }
+        request.setStatus(status);
+        if (comments != null) {
+            request.setComments(comments);
+        }
+        String normalized = status.trim().toUpperCase(Locale.ROOT);
+        if (!normalized.equals(previous) || comments != null) {
+            publishTransition(request, previous, normalized, comments);
+        }
+    }
+
+    private void release(Request request) {
+        if (request.hasWindow()) {
+            availabilityService.release(request.getId());
+        } else {
+            assetService.releaseUnit(request.getAsset().getId());
+        }
+    }
+
+    // Delivered to AuditService once the surrounding transaction commits
+    private void publishTransition(Request request, String from, String to, String comments) {
+        eventPublisher.publishEvent(new RequestStatusChangedEvent(
+            request.getId(),
+            request.getAsset() != null ? request.getAsset().getId() : null,
+            request.getUser() != null ? request.getUser().getId() : null,
+            currentUserId(),
+            from,
+            to,
+            comments,
+            Instant.now()));
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal
+            ? principal.id()
+            : null;
+    }
+
+    @Transactional
+    public void deleteRequest(Long id) {
+        requestRepository.findById(id).ifPresent(request -> {
+            // Deleting an approved request gives its unit back
+            if ("APPROVED".equalsIgnoreCase(request.getStatus()) && request.getAsset() != null) {
+                release(request);
+            }
+            requestRepository.delete(request);
+            publishTransition(request, request.getStatus(), "DELETED", null);
+        });
+        statsService.evict();
+    }
+
+    public List<RequestSummary> getRequestsByStatus(String status) {
+        return requestRepository.findSummariesByStatus(status.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public Slice<RequestSummary> getRequestsByUserId(Long userId, int page, int size) {
+        Sort newestFirst = Sort.by(Sort.Order.desc("requestDate"), Sort.Order.desc("id"));
+        return requestRepository.findSummariesByUserId(userId, PageRequest.of(page, size, newestFirst));
     }
 }
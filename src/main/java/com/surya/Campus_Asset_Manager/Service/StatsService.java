@@ -0,0 +1,94 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.surya.Campus_Asset_Manager.Model.DashboardStats;
+import com.surya.Campus_Asset_Manager.Model.StatusCount;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+import com.surya.Campus_Asset_Manager.Repository.UserRepository;
+
+@Service
+public class StatsService {
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${stats.cache-ttl-ms:5000}")
+    private long cacheTtlMs;
+
+    private record Snapshot(DashboardStats stats, long takenAt, long generation) {
+    }
+
+    // Bumped by every evict(); a snapshot only counts while its generation is current, so a load that
+    // started before a write and finished after it can never be served
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    // Served from a short-lived snapshot; the write paths call evict() so counts are never stale after a change
+    public DashboardStats getStats() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        long loadedAt = generation.get();
+        if (current != null && current.generation() == loadedAt && now - current.takenAt() < cacheTtlMs) {
+            return current.stats();
+        }
+        DashboardStats stats = loadStats();
+        if (generation.get() == loadedAt) {
+            snapshot = new Snapshot(stats, now, loadedAt);
+        }
+        return stats;
+    }
+
+    // Inside a transaction the write is not visible yet, so the generation is bumped again once it commits
+    public void evict() {
+        generation.incrementAndGet();
+        snapshot = null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                    snapshot = null;
+                }
+            });
+        }
+    }
+
+    private DashboardStats loadStats() {
+        Map<String, Long> assets = toMap(assetRepository.countByStatus());
+        Map<String, Long> requests = toMap(requestRepository.countByStatus());
+        Map<String, Long> users = toMap(userRepository.countByRole());
+        return new DashboardStats(
+                sum(assets), assets,
+                sum(requests), requests,
+                sum(users), users);
+    }
+
+    private static Map<String, Long> toMap(List<StatusCount> counts) {
+        Map<String, Long> byStatus = new TreeMap<>();
+        for (StatusCount count : counts) {
+            byStatus.merge(count.getStatus() != null ? count.getStatus() : "UNKNOWN", count.getCount(), Long::sum);
+        }
+        return byStatus;
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -1,14 +1,23 @@
 package com.surya.Campus_Asset_Manager.Service;
 
+import com.surya.Campus_Asset_Manager.Config.CacheConfig;
 import com.surya.Campus_Asset_Manager.Exception.DuplicateUsernameException;
 import com.surya.Campus_Asset_Manager.Model.LoginRequest;
 import com.surya.Campus_Asset_Manager.Model.User;
 import com.surya.Campus_Asset_Manager.Repository.UserRepository;
 import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
 import com.surya.Campus_Asset_Manager.Exception.UserDeletionException;
+import com.surya.Campus_Asset_Manager.Security.CampusUserDetails;
 import com.surya.Campus_Asset_Manager.Security.JwtTokenProvider;
+import com.surya.Campus_Asset_Manager.Security.UserRevocationRegistry;
+
+import io.micrometer.core.annotation.Timed;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,6 +28,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed(value = "campus.service", percentiles = {0.5, 0.99})
 public class UserService {
 
     @Autowired
@@ -34,8 +44,13 @@ public class UserService {
     private PasswordEncoder passwordEncoder;
     @Autowired
     private RequestRepository requestRepository;
+    @Autowired
+    private StatsService statsService;
+    @Autowired
+    private UserRevocationRegistry revocationRegistry;
 
     // Register a new user
+    @CacheEvict(cacheNames = CacheConfig.USERS_BY_USERNAME, key = "#user.username")
     public void registerUser(User user) {
         // Check if username already exists
         if (userRepository.findByUsername(user.getUsername()) != null) {
@@ -44,6 +59,7 @@ public class UserService {
         
         user.setPassword(passwordEncoder.encode(user.getPassword()));  // Encrypt password
         userRepository.save(user);  // Save user in the database
+        statsService.evict();
     }
 
     // Authenticate user and generate JWT token
@@ -56,36 +72,39 @@ public class UserService {
                 )
         );
 
-        // Get the authenticated user's username
-        String username = authentication.getName();
-
-        // Fetch user to get role and id
-        User user = userRepository.findByUsername(username);
+        // The provider already loaded the user; reuse it instead of querying again
+        CampusUserDetails user = (CampusUserDetails) authentication.getPrincipal();
 
         // Generate a JWT token for the authenticated user including role and id
         return jwtTokenProvider.generateToken(
-            username,
-            user != null && user.getRole() != null ? user.getRole().name() : null,
-            user != null ? user.getId() : null
+            user.getUsername(),
+            user.getRole() != null ? user.getRole().name() : null,
+            user.getId()
         );
     }
 
-    // Get all users
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    // Get one keyset page of users ordered by id
+    public List<User> getUsersAfter(Long afterId, int limit) {
+        return userRepository.findByIdGreaterThanOrderByIdAsc(afterId != null ? afterId : 0L, Limit.of(limit));
     }
 
     // Get user by ID
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#id", unless = "#result == null")
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
     }
 
     // Get user by username
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_USERNAME, key = "#username", unless = "#result == null")
     public User getUserByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
-    // Delete user
+    // Delete user; the username is not known here, so the by-username cache is cleared wholesale
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheConfig.USERS, key = "#id"),
+        @CacheEvict(cacheNames = CacheConfig.USERS_BY_USERNAME, allEntries = true)
+    })
     public void deleteUser(Long id) {
         // Prevent deleting a user who has existing requests to avoid FK constraint failures
         long requestsCount = requestRepository.countByUserId(id);
@@ -93,5 +112,8 @@ public class UserService {
             throw new UserDeletionException("Cannot delete user with id " + id + ": there are " + requestsCount + " request(s) referencing this user. Delete those requests first or reassign them.");
         }
         userRepository.deleteById(id);
+        // Tokens are trusted without a lookup, so outstanding ones must be rejected explicitly
+        revocationRegistry.revoke(id);
+        statsService.evict();
     }
 }
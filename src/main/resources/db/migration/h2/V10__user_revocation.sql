@@ -0,0 +1,7 @@
+create table user_revocation (
+    user_id bigint not null,
+    revoked_at timestamp(6) with time zone not null,
+    primary key (user_id)
+);
+
+create index idx_revocation_time on user_revocation (revoked_at);
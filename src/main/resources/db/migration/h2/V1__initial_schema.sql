@@ -0,0 +1,33 @@
+-- Same schema as db/migration/mysql/V1 for the embedded local and test profiles; each later script mirrors
+-- the MySQL one of the same version. The URL sets NON_KEYWORDS=USER so the user table keeps its name.
+
+create table asset (
+    id bigint generated by default as identity,
+    name varchar(255),
+    quantity integer not null,
+    status varchar(255),
+    type varchar(255),
+    primary key (id)
+);
+
+create table asset_request (
+    id bigint generated by default as identity,
+    comments varchar(500),
+    request_date timestamp(6),
+    status varchar(50),
+    asset_id bigint,
+    user_id bigint,
+    primary key (id)
+);
+
+create table user (
+    id bigint generated by default as identity,
+    password varchar(255) not null,
+    role enum ('ADMIN','STUDENT') not null,
+    username varchar(255) not null,
+    primary key (id)
+);
+
+alter table user add constraint UKsb8bbouer5wak8vyiiy4pf2bx unique (username);
+alter table asset_request add constraint FK5g2rj7y14d7i4s2lwl1nixj7m foreign key (asset_id) references asset (id);
+alter table asset_request add constraint FKo3mx8cgkkjkpuvjdup7gc4ybm foreign key (user_id) references user (id);
@@ -0,0 +1,4 @@
+-- Status filters and per-user request pages run in the database
+create index idx_asset_status on asset (status);
+create index idx_request_status on asset_request (status);
+create index idx_request_user_date on asset_request (user_id, request_date);
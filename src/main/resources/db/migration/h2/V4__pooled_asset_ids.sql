@@ -0,0 +1,3 @@
+-- Same as the MySQL migration: the sequence starts past the highest asset id in use
+create sequence asset_seq start with 1 increment by 50;
+alter sequence asset_seq restart with (select coalesce(max(id), 0) + 50 from asset);
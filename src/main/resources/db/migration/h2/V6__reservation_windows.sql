@@ -0,0 +1,2 @@
+alter table asset_request add column start_time timestamp(6);
+alter table asset_request add column end_time timestamp(6);
@@ -0,0 +1,5 @@
+create sequence request_seq start with 1 increment by 50;
+alter sequence request_seq restart with (select coalesce(max(id), 0) + 50 from asset_request);
+
+alter table asset_request add column intake_ticket varchar(36);
+create unique index uk_request_intake_ticket on asset_request (intake_ticket);
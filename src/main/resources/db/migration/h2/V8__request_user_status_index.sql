@@ -0,0 +1,2 @@
+-- Backs the per-user pending request cap (RequestRepository.countByUserIdAndStatus)
+create index idx_request_user_status on asset_request (user_id, status);
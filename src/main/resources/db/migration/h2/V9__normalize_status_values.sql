@@ -0,0 +1,3 @@
+-- Status lookups match the stored value exactly; older versions wrote some statuses in mixed case
+update asset set status = upper(trim(status));
+update asset_request set status = upper(trim(status));
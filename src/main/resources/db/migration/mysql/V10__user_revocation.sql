@@ -0,0 +1,8 @@
+-- Token revocations shared by every node; rows older than the token lifetime are deleted on the next revocation
+create table user_revocation (
+    user_id bigint not null,
+    revoked_at datetime(6) not null,
+    primary key (user_id)
+) engine=InnoDB;
+
+create index idx_revocation_time on user_revocation (revoked_at);
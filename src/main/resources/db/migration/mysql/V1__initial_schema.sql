@@ -0,0 +1,34 @@
+-- The schema ddl-auto=update generated before migrations were introduced, column for column and with
+-- Hibernate's constraint names. Databases that already have it are baselined at this version on first start
+-- (spring.flyway.baseline-on-migrate) and skip this script; everything added since lives in V2 onwards.
+
+create table asset (
+    id bigint not null auto_increment,
+    name varchar(255),
+    quantity integer not null,
+    status varchar(255),
+    type varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table asset_request (
+    id bigint not null auto_increment,
+    comments varchar(500),
+    request_date datetime(6),
+    status varchar(50),
+    asset_id bigint,
+    user_id bigint,
+    primary key (id)
+) engine=InnoDB;
+
+create table `user` (
+    id bigint not null auto_increment,
+    password varchar(255) not null,
+    role enum ('ADMIN','STUDENT') not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table `user` add constraint UKsb8bbouer5wak8vyiiy4pf2bx unique (username);
+alter table asset_request add constraint FK5g2rj7y14d7i4s2lwl1nixj7m foreign key (asset_id) references asset (id);
+alter table asset_request add constraint FKo3mx8cgkkjkpuvjdup7gc4ybm foreign key (user_id) references `user` (id);
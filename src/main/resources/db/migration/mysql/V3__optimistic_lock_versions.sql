@@ -0,0 +1,3 @@
+-- @Version columns for Asset and Request; existing rows start at version 0
+alter table asset add column version bigint not null default 0;
+alter table asset_request add column version bigint not null default 0;
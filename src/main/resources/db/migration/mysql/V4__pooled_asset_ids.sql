@@ -0,0 +1,6 @@
+-- Asset ids come from a pooled generator so bulk imports go out as JDBC batches. MySQL has no sequences, so
+-- Hibernate keeps the generator as a one-row table. It starts past the highest id in use; on an empty table
+-- the first block is 1..50. The auto_increment attribute stays on the column: Hibernate always supplies the
+-- id, and dropping it would rebuild the table.
+create table asset_seq (next_val bigint) engine=InnoDB;
+insert into asset_seq select coalesce(max(id), 0) + 50 from asset;
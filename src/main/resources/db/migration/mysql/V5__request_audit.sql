@@ -0,0 +1,20 @@
+-- Append-only history of request status transitions, written in batches by AuditService
+create table request_audit_seq (next_val bigint) engine=InnoDB;
+insert into request_audit_seq values (50);
+
+create table request_audit (
+    id bigint not null,
+    request_id bigint not null,
+    asset_id bigint,
+    user_id bigint,
+    actor_id bigint,
+    from_status varchar(50),
+    to_status varchar(50) not null,
+    comments varchar(500),
+    changed_at datetime(6) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_audit_request on request_audit (request_id);
+create index idx_audit_asset on request_audit (asset_id);
+create index idx_audit_user on request_audit (user_id);
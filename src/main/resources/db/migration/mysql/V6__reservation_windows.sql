@@ -0,0 +1,2 @@
+-- Optional booking window [start_time, end_time) of a request; both stay null for open-ended reservations
+alter table asset_request add column start_time datetime(6), add column end_time datetime(6);
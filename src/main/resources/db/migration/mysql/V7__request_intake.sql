@@ -0,0 +1,7 @@
+-- Write-behind request creation: pooled request ids, started past the highest id in use as in V4, and the
+-- provisional ticket a journal replay uses to skip rows it already inserted
+create table request_seq (next_val bigint) engine=InnoDB;
+insert into request_seq select coalesce(max(id), 0) + 50 from asset_request;
+
+alter table asset_request add column intake_ticket varchar(36);
+create unique index uk_request_intake_ticket on asset_request (intake_ticket);
@@ -0,0 +1,48 @@
+package com.surya.Campus_Asset_Manager.Config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadInterceptorTests {
+
+    private BulkheadInterceptor bulkhead;
+    private HandlerMethod handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bulkhead = new BulkheadInterceptor(1, 0, new SimpleMeterRegistry());
+        handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
+    }
+
+    @Test
+    void streamedResponsesHoldTheirPermitUntilTheExchangeCompletes() throws Exception {
+        MockHttpServletRequest export = new MockHttpServletRequest();
+        export.setAsyncSupported(true);
+        MockHttpServletResponse exportResponse = new MockHttpServletResponse();
+        assertTrue(bulkhead.preHandle(export, exportResponse, handler));
+        export.startAsync();
+        bulkhead.afterConcurrentHandlingStarted(export, exportResponse, handler);
+
+        // The body is still being written on another thread
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(bulkhead.preHandle(new MockHttpServletRequest(), rejected, handler));
+        assertEquals(503, rejected.getStatus());
+
+        // Released once, although both the async re-dispatch and the listener report completion
+        bulkhead.afterCompletion(export, exportResponse, handler, null);
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        assertTrue(bulkhead.preHandle(next, new MockHttpServletResponse(), handler));
+        assertFalse(bulkhead.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), handler));
+    }
+}
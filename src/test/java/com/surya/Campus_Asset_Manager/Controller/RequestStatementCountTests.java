@@ -0,0 +1,130 @@
+package com.surya.Campus_Asset_Manager.Controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Security.JwtTokenProvider;
+import com.surya.Campus_Asset_Manager.Service.RequestService;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Every request points at its own asset, so any per-row association load shows up as extra statements.
+// The audit writer is off: its background inserts would land in the same global statistics.
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "audit.enabled=false"
+})
+@AutoConfigureMockMvc
+class RequestStatementCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Long> requestIds = new ArrayList<>();
+    private Statistics statistics;
+    private User student;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        student = fixtures.student("statements");
+        token = "Bearer " + jwtTokenProvider.generateToken(student.getUsername(), "STUDENT", student.getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void requestEndpointsIssueTheSameStatementsForFewAndManyRows() throws Exception {
+        addRequests(3);
+        Map<String, Long> few = measureEndpoints(requestIds.get(0));
+
+        addRequests(60);
+        Map<String, Long> many = measureEndpoints(requestIds.get(1));
+
+        assertEquals(few, many);
+        for (String listing : List.of("list", "byId", "byStatus", "byUser", "export")) {
+            assertTrue(many.get(listing) <= 1, listing + " took " + many.get(listing) + " statements");
+        }
+    }
+
+    private void addRequests(int count) {
+        for (int i = 0; i < count; i++) {
+            Asset asset = fixtures.availableAsset("Camera " + i, "Electronics", 1);
+            requestIds.add(fixtures.track(requestService.createRequest(fixtures.request(student, asset))));
+        }
+    }
+
+    private Map<String, Long> measureEndpoints(Long requestToReject) throws Exception {
+        long before = requestIds.get(0) - 1;
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("list", statementsFor(get("/api/requests?after=" + before + "&limit=500").header("Authorization", token)));
+        counts.put("byId", statementsFor(get("/api/requests/" + requestIds.get(0)).header("Authorization", token)));
+        counts.put("byStatus", statementsFor(get("/api/requests/status/PENDING").header("Authorization", token)));
+        counts.put("byUser", statementsFor(get("/api/requests/user/" + student.getId() + "?size=500").header("Authorization", token)));
+        counts.put("export", exportStatements());
+        counts.put("updateStatus", statementsFor(patch("/api/requests/" + requestToReject + "/status")
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"REJECTED\"}")));
+        return counts;
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long exportStatements() throws Exception {
+        statistics.clear();
+        MvcResult started = mockMvc.perform(get("/api/requests/export").header("Authorization", token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,97 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+import jakarta.servlet.Filter;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class EventTicketTests {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter securityFilterChain;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private MockMvc mockMvc;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(securityFilterChain).build();
+        User student = fixtures.student("events");
+        token = jwtTokenProvider.generateToken(student.getUsername(), "STUDENT", student.getId());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void aTicketOpensTheEventStreamOnce() throws Exception {
+        String ticket = ticket();
+
+        mockMvc.perform(events().param("ticket", ticket))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(events().param("ticket", ticket))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void neitherTokenWorksInTheOtherPlace() throws Exception {
+        // The login token is not taken from the URL, even on the event stream
+        mockMvc.perform(events().param("access_token", token).param("ticket", token))
+                .andExpect(status().isForbidden());
+        // A ticket is not a bearer token, and only opens the event stream
+        mockMvc.perform(get("/api/assets").servletPath("/api/assets").header("Authorization", "Bearer " + ticket()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/assets").servletPath("/api/assets").param("ticket", ticket()))
+                .andExpect(status().isForbidden());
+    }
+
+    // The filters match on the servlet path, which a container sets and MockMvc leaves empty
+    private static MockHttpServletRequestBuilder events() {
+        return get("/api/events").servletPath("/api/events");
+    }
+
+    private String ticket() throws Exception {
+        String body = mockMvc.perform(post("/api/events/ticket").servletPath("/api/events/ticket").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String ticket = objectMapper.readTree(body).get("ticket").asText();
+        assertTrue(!ticket.isEmpty());
+        return ticket;
+    }
+}
@@ -0,0 +1,80 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+import jakarta.servlet.Filter;
+
+// MockMvc sends every call from 127.0.0.1, like a campus NAT that puts all students behind one address
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource("classpath:limits.properties")
+class LoginRateLimitTests {
+
+    private static final int STUDENTS = 100;
+    private static final String PASSWORD = "correct horse";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter securityFilterChain;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(securityFilterChain).build();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void manyStudentsSigningInFromOneAddressAreNotThrottled() throws Exception {
+        for (int i = 0; i < STUDENTS; i++) {
+            login(fixtures.student("nat", PASSWORD).getUsername(), PASSWORD).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void repeatedAttemptsOnOneAccountAreThrottled() throws Exception {
+        User student = fixtures.student("guessed", PASSWORD);
+        for (int i = 0; i < 10; i++) {
+            login(student.getUsername(), "guess " + i).andExpect(status().isUnauthorized());
+        }
+        login(student.getUsername(), PASSWORD)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    private ResultActions login(String username, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void admitsABurstThenRefillsAtTheConfiguredRate() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(3, 1.0, now);
+
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(0, bucket.tryAcquire(now));
+        assertEquals(SECOND, bucket.tryAcquire(now));
+
+        // One token back per second, never more than the capacity
+        assertEquals(0, bucket.tryAcquire(now + SECOND));
+        assertTrue(bucket.tryAcquire(now + SECOND) > 0);
+        long later = now + 60 * SECOND;
+        assertEquals(3, IntStream.range(0, 10).filter(i -> bucket.tryAcquire(later) == 0).count());
+    }
+
+    @Test
+    void concurrentCallersNeverExceedTheCapacity() {
+        long now = 1_000 * SECOND;
+        TokenBucket bucket = new TokenBucket(100, 0.001, now);
+        AtomicInteger admitted = new AtomicInteger();
+
+        IntStream.range(0, 10_000).parallel().forEach(i -> {
+            if (bucket.tryAcquire(now) == 0) {
+                admitted.incrementAndGet();
+            }
+        });
+
+        assertEquals(100, admitted.get());
+    }
+}
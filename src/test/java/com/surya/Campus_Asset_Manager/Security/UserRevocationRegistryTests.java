@@ -0,0 +1,46 @@
+package com.surya.Campus_Asset_Manager.Security;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.surya.Campus_Asset_Manager.Repository.UserRevocationRepository;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class UserRevocationRegistryTests {
+
+    private static final long USER_ID = 987_654L;
+
+    @Autowired
+    private UserRevocationRegistry registry;
+
+    @Autowired
+    private UserRevocationRepository revocationRepository;
+
+    @AfterEach
+    void cleanUp() {
+        revocationRepository.deleteById(USER_ID);
+    }
+
+    @Test
+    void revocationsReachOtherNodesThroughTheDatabase() {
+        // A second node sharing the database, reloading on every check
+        UserRevocationRegistry otherNode = new UserRevocationRegistry(revocationRepository, 3_600_000, 0);
+        Date issued = new Date(System.currentTimeMillis() - 1000);
+        assertFalse(otherNode.isRevoked(USER_ID, issued));
+
+        registry.revoke(USER_ID);
+
+        assertTrue(registry.isRevoked(USER_ID, issued));
+        assertTrue(otherNode.isRevoked(USER_ID, issued));
+        assertFalse(otherNode.isRevoked(USER_ID, new Date(System.currentTimeMillis() + 1000)));
+    }
+}
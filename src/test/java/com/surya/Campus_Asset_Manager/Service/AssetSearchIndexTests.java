@@ -0,0 +1,99 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.AssetSearchHit;
+
+class AssetSearchIndexTests {
+
+    private AssetSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AssetSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        add(1L, "Dell XPS 15 Laptop", "Electronics", "AVAILABLE");
+        add(2L, "Lenovo ThinkPad Laptop", "Electronics", "RESERVED");
+        add(3L, "Epson Projector", "Electronics", "AVAILABLE");
+        add(4L, "Laptop Cart", "Furniture", "AVAILABLE");
+    }
+
+    @Test
+    void matchesWordPrefixesAndRanksExactWordsFirst() {
+        assertEquals(List.of(1L, 2L, 4L), ids(index.search("lap", null, null, false, 10)));
+        assertEquals(List.of(3L), ids(index.search("epson proj", null, null, false, 10)));
+        assertEquals(List.of(1L), ids(index.search("xps", null, null, false, 10)));
+    }
+
+    @Test
+    void appliesStatusAndTypeFilters() {
+        assertEquals(List.of(1L, 4L), ids(index.search("laptop", "available", null, false, 10)));
+        assertEquals(List.of(4L), ids(index.search("laptop", null, "Furniture", false, 10)));
+    }
+
+    @Test
+    void fuzzyMatchingToleratesTyposOnlyWhenAsked() {
+        assertTrue(index.search("projetcor", null, null, false, 10).isEmpty());
+        assertEquals(List.of(3L), ids(index.search("projetcor", null, null, true, 10)));
+        assertEquals(List.of(2L), ids(index.search("lenvo", null, null, true, 10)));
+    }
+
+    @Test
+    void followsUpdatesAndDeletes() {
+        add(3L, "Epson Projector", "Electronics", "MAINTENANCE");
+        assertTrue(index.search("projector", "AVAILABLE", null, false, 10).isEmpty());
+
+        index.onAssetChanged(AssetChangedEvent.deleted(1L));
+        assertFalse(ids(index.search("laptop", null, null, false, 10)).contains(1L));
+        assertTrue(index.search("xps", null, null, false, 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void stopsEarlyWithoutChangingTheOrder() {
+        add(5L, "Laptop Bag", "Accessories", "AVAILABLE");
+        add(6L, "Laptops Shelf", "Furniture", "AVAILABLE");
+        add(7L, "Laptop", "Electronics", "AVAILABLE");
+
+        assertEquals(List.of(1L, 2L), ids(index.search("lap", null, null, false, 2)));
+        // Exact matches outrank the prefix match on "laptops" even where its id is lower
+        assertEquals(List.of(1L, 2L, 4L, 5L, 7L), ids(index.search("laptop", null, null, false, 5)));
+        assertEquals(List.of(1L, 2L, 4L, 5L, 7L, 6L), ids(index.search("laptop", null, null, false, 6)));
+        assertEquals(List.of(1L, 7L), ids(index.search("laptop electronics", "AVAILABLE", null, false, 2)));
+    }
+
+    @Test
+    void capsPrefixExpansion() {
+        ReflectionTestUtils.setField(index, "maxPrefixTerms", 1);
+        add(5L, "Lapel Microphone", "Electronics", "AVAILABLE");
+
+        // "lapel" sorts before "laptop", so only it is expanded
+        assertEquals(List.of(5L), ids(index.search("lap", null, null, false, 10)));
+        assertEquals(List.of(1L, 2L, 4L), ids(index.search("laptop", null, null, false, 10)));
+    }
+
+    @Test
+    void editDistanceIsBounded() {
+        assertTrue(AssetSearchIndex.withinEdits("laptop", "laptpo", 2));
+        assertTrue(AssetSearchIndex.withinEdits("cart", "card", 1));
+        assertFalse(AssetSearchIndex.withinEdits("cart", "chair", 1));
+    }
+
+    private void add(Long id, String name, String type, String status) {
+        index.onAssetChanged(AssetChangedEvent.of("CREATED", new Asset(id, name, type, 1, status, 0)));
+    }
+
+    private static List<Long> ids(List<AssetSearchHit> hits) {
+        return hits.stream().map(AssetSearchHit::id).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.AvailableAsset;
+import com.surya.Campus_Asset_Manager.Model.Reservation;
+
+class AvailabilityServiceTests {
+
+    private static final Instant DAY = Instant.parse("2030-03-01T00:00:00Z");
+
+    private AvailabilityService availability;
+
+    @BeforeEach
+    void setUp() {
+        availability = new AvailabilityService();
+        availability.onAssetChanged(new AssetChangedEvent("CREATED", 1L, "Epson Projector", "Projector", 2, "AVAILABLE", DAY));
+        availability.onAssetChanged(new AssetChangedEvent("CREATED", 2L, "BenQ Projector", "Projector", 1, "AVAILABLE", DAY));
+        availability.onAssetChanged(new AssetChangedEvent("CREATED", 3L, "Zeiss Microscope", "Lab", 1, "AVAILABLE", DAY));
+    }
+
+    @Test
+    void fullyBookedAssetsDropOutOnlyForOverlappingWindows() {
+        availability.addToTimeline(10L, 2L, at(9), at(11));
+
+        assertEquals(List.of(1L), ids(availability.findAvailable("projector", at(10), at(12), 10)));
+        // Windows are half-open, so a booking ending at 11:00 leaves 11:00 onwards free
+        assertEquals(List.of(1L, 2L), ids(availability.findAvailable("Projector", at(11), at(12), 10)));
+        assertEquals(List.of(1L, 2L, 3L), ids(availability.findAvailable(null, at(13), at(14), 10)));
+    }
+
+    @Test
+    void countsUnitsAtTheBusiestMomentOfTheWindow() {
+        availability.addToTimeline(10L, 1L, at(8), at(10));
+        availability.addToTimeline(11L, 1L, at(10), at(12));
+
+        // Two bookings overlap 8:00-12:00 but never at the same time, so one unit is still free throughout
+        AvailableAsset epson = availability.findAvailable("Projector", at(8), at(12), 10).get(0);
+        assertEquals(1L, epson.id());
+        assertEquals(1, epson.freeUnits());
+
+        availability.addToTimeline(12L, 1L, at(9), at(11));
+        assertEquals(List.of(2L), ids(availability.findAvailable("Projector", at(8), at(12), 10)));
+        assertEquals(List.of(2L), ids(availability.findAvailable("Projector", at(9), at(10), 10)));
+    }
+
+    @Test
+    void releasingABookingFreesItsWindow() {
+        availability.addToTimeline(10L, 3L, at(9), at(17));
+        assertTrue(availability.findAvailable("Lab", at(12), at(13), 10).isEmpty());
+
+        availability.release(10L);
+        assertEquals(List.of(3L), ids(availability.findAvailable("Lab", at(12), at(13), 10)));
+        availability.addToTimeline(11L, 3L, at(12), at(13));
+
+        List<Reservation> reservations = availability.getReservations(3L, at(0), at(23));
+        assertEquals(1, reservations.size());
+        assertEquals(11L, reservations.get(0).requestId());
+    }
+
+    @Test
+    void maintenanceAndDeletedAssetsAreNeverAvailable() {
+        availability.onAssetChanged(new AssetChangedEvent("UPDATED", 1L, "Epson Projector", "Projector", 2, "MAINTENANCE", DAY));
+        availability.onAssetChanged(AssetChangedEvent.deleted(2L));
+
+        assertTrue(availability.findAvailable("Projector", at(9), at(10), 10).isEmpty());
+    }
+
+    private static Date at(int hour) {
+        return Date.from(DAY.plusSeconds(hour * 3600L));
+    }
+
+    private static List<Long> ids(List<AvailableAsset> assets) {
+        return assets.stream().map(AvailableAsset::id).toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.surya.Campus_Asset_Manager.Controller.EventController;
+import com.surya.Campus_Asset_Manager.Model.AssetChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.RequestStatusChangedEvent;
+import com.surya.Campus_Asset_Manager.Security.JwtUserPrincipal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ChangeFeedServiceTests {
+
+    private static final Instant NOW = Instant.parse("2030-03-01T09:00:00Z");
+
+    private ChangeFeedService changeFeed;
+    private SimpleMeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        changeFeed = new ChangeFeedService();
+        ReflectionTestUtils.setField(changeFeed, "bufferSize", 1000);
+        ReflectionTestUtils.setField(changeFeed, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(changeFeed, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(changeFeed, "heartbeatMs", 60_000L);
+        ReflectionTestUtils.setField(changeFeed, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.invokeMethod(changeFeed, "init");
+
+        EventController controller = new EventController();
+        ReflectionTestUtils.setField(controller, "changeFeedService", changeFeed);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void studentReceivesOnlyTheirOwnRequestEvents() throws Exception {
+        MockHttpServletResponse student = subscribe(1L, "STUDENT");
+        MockHttpServletResponse admin = subscribe(99L, "ADMIN");
+
+        changeFeed.onRequestChanged(requestEvent(101L, 2L));
+        changeFeed.onRequestChanged(requestEvent(102L, 1L));
+
+        // One sender thread per subscriber keeps events in order, so once 102 is out 101 would be too
+        String studentStream = awaitContent(student, "\"requestId\":102");
+        assertFalse(studentStream.contains("\"requestId\":101"), studentStream);
+        String adminStream = awaitContent(admin, "\"requestId\":102");
+        assertTrue(adminStream.contains("\"requestId\":101"), adminStream);
+    }
+
+    @Test
+    void overflowingSubscriberIsClosedAndCounted() throws Exception {
+        ReflectionTestUtils.setField(changeFeed, "bufferSize", 1);
+        subscribe(1L, "STUDENT");
+
+        // The broadcaster never waits, so it outpaces the sender serializing each event until the buffer overflows
+        AssetChangedEvent event = new AssetChangedEvent("UPDATED", 5L, "Epson Projector", "Projector", 1, "AVAILABLE", NOW);
+        for (int i = 0; i < 100_000 && subscriberCount() > 0; i++) {
+            changeFeed.onAssetChanged(event);
+        }
+
+        assertEquals(0.0, subscriberCount());
+        assertEquals(1.0, meterRegistry.get("campus.sse.evicted").counter().count());
+    }
+
+    private MockHttpServletResponse subscribe(Long userId, String role) throws Exception {
+        JwtUserPrincipal principal = new JwtUserPrincipal(userId, "user" + userId, role);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role)));
+        return mockMvc.perform(get("/api/events").principal(authentication))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private double subscriberCount() {
+        return meterRegistry.get("campus.sse.subscribers").gauge().value();
+    }
+
+    private static RequestStatusChangedEvent requestEvent(Long requestId, Long userId) {
+        return new RequestStatusChangedEvent(requestId, 5L, userId, null, "PENDING", "APPROVED", null, NOW);
+    }
+
+    // Events are written by each subscriber's own sender thread
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+}
@@ -0,0 +1,80 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.User;
+
+class IntakeJournalTests {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysOnlyUnsettledEntriesInOrder() throws Exception {
+        Path path = dir.resolve("intake.journal");
+        try (IntakeJournal journal = new IntakeJournal(path, objectMapper, true)) {
+            assertTrue(journal.open().isEmpty());
+            journal.append(List.of(accepted("a", 1L), accepted("b", 2L), accepted("c", 3L)));
+            journal.append(List.of(IntakeJournal.Entry.settled(IntakeJournal.CREATED, "b", 42L),
+                IntakeJournal.Entry.settled(IntakeJournal.FAILED, "c", null)));
+        }
+        // A crash mid-append leaves a torn line, which was never acknowledged
+        Files.writeString(path, "{\"op\":\"ACCEPTED\",\"tick", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (IntakeJournal journal = new IntakeJournal(path, objectMapper, true)) {
+            List<IntakeJournal.Entry> replay = journal.open();
+            assertEquals(List.of("a"), replay.stream().map(IntakeJournal.Entry::ticket).toList());
+
+            Request request = replay.get(0).toRequest();
+            assertEquals(1L, request.getAsset().getId());
+            assertEquals(7L, request.getUser().getId());
+            assertEquals("a", request.getIntakeTicket());
+        }
+        // Compaction left just the one unsettled line behind
+        assertEquals(1, Files.readAllLines(path).size());
+    }
+
+    @Test
+    void truncatesOnlyOnceEverythingIsSettled() throws Exception {
+        Path path = dir.resolve("intake.journal");
+        try (IntakeJournal journal = new IntakeJournal(path, objectMapper, false)) {
+            journal.open();
+            journal.append(List.of(accepted("a", 1L)));
+            journal.truncateIfSettled(0);
+            assertTrue(Files.size(path) > 0);
+
+            journal.append(List.of(IntakeJournal.Entry.settled(IntakeJournal.CREATED, "a", 10L)));
+            journal.truncateIfSettled(0);
+            assertEquals(0, Files.size(path));
+        }
+    }
+
+    private static IntakeJournal.Entry accepted(String ticket, Long assetId) {
+        User user = new User();
+        user.setId(7L);
+        Asset asset = new Asset();
+        asset.setId(assetId);
+        Request request = new Request();
+        request.setUser(user);
+        request.setAsset(asset);
+        request.setComments("Lab week");
+        return IntakeJournal.Entry.accepted(ticket, request, new Date());
+    }
+}
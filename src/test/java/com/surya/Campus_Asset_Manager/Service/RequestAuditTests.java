@@ -0,0 +1,104 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.RequestAudit;
+import com.surya.Campus_Asset_Manager.Model.RequestStatusChangedEvent;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Repository.RequestAuditRepository;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RequestAuditTests {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private AuditService auditService;
+
+    @Autowired
+    private RequestAuditRepository auditRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Request request;
+    private Asset asset;
+    private User student;
+
+    @AfterEach
+    void cleanUp() {
+        if (request != null) {
+            auditRepository.deleteAll(auditService.getRequestHistory(request.getId(), null, 100));
+        }
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void everyTransitionIsRecordedInOrder() throws Exception {
+        student = fixtures.student("audit");
+        asset = fixtures.availableAsset("Microscope", "Lab", 2);
+
+        request = requestService.createRequest(fixtures.request(student, asset));
+        fixtures.track(request);
+        requestService.updateRequestStatus(request.getId(), "APPROVED", "Lab 4");
+        requestService.updateRequestStatus(request.getId(), "rejected", "Returned early");
+
+        List<RequestAudit> history = awaitHistory(3);
+        assertEquals(Arrays.asList(null, "PENDING", "APPROVED"),
+                history.stream().map(RequestAudit::getFromStatus).toList());
+        assertEquals(List.of("PENDING", "APPROVED", "REJECTED"),
+                history.stream().map(RequestAudit::getToStatus).toList());
+        assertEquals("Returned early", history.get(2).getComments());
+        assertNull(history.get(2).getActorId());
+
+        List<Long> ids = history.stream().map(RequestAudit::getId).toList();
+        assertEquals(ids, auditService.getAssetHistory(asset.getId(), null, 100).stream().map(RequestAudit::getId).toList());
+        assertEquals(ids, auditService.getUserHistory(student.getId(), null, 100).stream().map(RequestAudit::getId).toList());
+    }
+
+    @Test
+    void oneBadEventDoesNotLoseTheRestOfItsBatch() {
+        // Audit rows carry ids only, so a made-up request id needs no fixture
+        long requestId = -Math.abs(UUID.randomUUID().getMostSignificantBits());
+        Instant now = Instant.now();
+        List<RequestStatusChangedEvent> batch = List.of(
+                new RequestStatusChangedEvent(requestId, null, null, null, null, "PENDING", null, now),
+                new RequestStatusChangedEvent(requestId, null, null, null, "PENDING", null, "no target status", now),
+                new RequestStatusChangedEvent(requestId, null, null, null, "PENDING", "APPROVED", null, now));
+
+        ReflectionTestUtils.invokeMethod(auditService, "write", batch);
+
+        List<RequestAudit> history = auditService.getRequestHistory(requestId, null, 100);
+        auditRepository.deleteAll(history);
+        assertEquals(List.of("PENDING", "APPROVED"), history.stream().map(RequestAudit::getToStatus).toList());
+    }
+
+    // Audit rows are written by a background thread after commit
+    private List<RequestAudit> awaitHistory(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        List<RequestAudit> history = auditService.getRequestHistory(request.getId(), null, 100);
+        while (history.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            history = auditService.getRequestHistory(request.getId(), null, 100);
+        }
+        return history;
+    }
+}
@@ -0,0 +1,81 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import com.surya.Campus_Asset_Manager.Exception.PendingLimitExceededException;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource("classpath:limits.properties")
+class RequestQuotaTests {
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Long> requestIds = new ArrayList<>();
+    private Asset asset;
+    private User student;
+
+    // limits.properties caps each user at 2 pending requests
+    @BeforeEach
+    void setUp() {
+        student = fixtures.student("quota");
+        asset = fixtures.availableAsset("Oscilloscope", "Lab", 3);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void capsOpenPendingRequestsPerUser() {
+        create();
+        create();
+        assertThrows(PendingLimitExceededException.class, this::create);
+
+        // A decided request no longer counts against the cap
+        requestService.updateRequestStatus(requestIds.get(0), "REJECTED", null);
+        create();
+        assertThrows(PendingLimitExceededException.class, this::create);
+    }
+
+    @Test
+    void capsWriteBehindBatchesPerUser() {
+        create();
+        // A replayed batch goes straight to createRequests, so the cap must hold there too
+        assertThrows(PendingLimitExceededException.class,
+                () -> requestService.createRequests(List.of(dated(), dated())));
+        fixtures.track(requestService.createRequests(List.of(dated())).get(0));
+        assertThrows(PendingLimitExceededException.class, () -> requestService.createRequests(List.of(dated())));
+    }
+
+    private Request dated() {
+        Request request = fixtures.request(student, asset);
+        request.setRequestDate(new Date());
+        return request;
+    }
+
+    private void create() {
+        requestIds.add(fixtures.track(requestService.createRequest(fixtures.request(student, asset))));
+    }
+}
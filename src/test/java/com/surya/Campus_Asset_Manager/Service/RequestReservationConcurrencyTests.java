@@ -0,0 +1,158 @@
+package com.surya.Campus_Asset_Manager.Service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.surya.Campus_Asset_Manager.Exception.AssetUnavailableException;
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+import com.surya.Campus_Asset_Manager.TestFixtures;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RequestReservationConcurrencyTests {
+
+    private static final int UNITS = 5;
+    private static final int REQUESTS = 60;
+    private static final int THREADS = 16;
+    private static final Instant DAY = Instant.parse("2030-03-01T00:00:00Z");
+
+    @Autowired
+    private RequestService requestService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private final List<Long> requestIds = new ArrayList<>();
+    private Asset asset;
+
+    @AfterEach
+    void cleanUp() {
+        fixtures.cleanUp();
+    }
+
+    @Test
+    void concurrentApprovalsNeverOverbookAnAsset() throws Exception {
+        User student = fixtures.student("stress");
+        asset = fixtures.availableAsset("Projector", "Electronics", UNITS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            requestIds.add(fixtures.track(requestService.createRequest(fixtures.request(student, asset))));
+        }
+
+        int approved = approveConcurrently();
+
+        Asset after = assetRepository.findById(asset.getId()).orElseThrow();
+        assertEquals(UNITS, approved);
+        assertEquals(0, after.getQuantity());
+        assertEquals("RESERVED", after.getStatus());
+        assertEquals(UNITS, approvedForAsset());
+    }
+
+    @Test
+    void concurrentWindowedApprovalsNeverOverbookAWindow() throws Exception {
+        User student = fixtures.student("stress");
+        asset = fixtures.availableAsset("Projector", "Electronics", UNITS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            // Every window overlaps 10:00-11:00
+            requestIds.add(createWindowed(student, 9 + i % 2, 11 + i % 3));
+        }
+
+        assertEquals(UNITS, approveConcurrently());
+        // Windowed bookings leave the count alone
+        assertEquals(UNITS, assetRepository.findById(asset.getId()).orElseThrow().getQuantity());
+        assertEquals(UNITS, approvedForAsset());
+    }
+
+    @Test
+    void openEndedApprovalsLeaveBookedWindowsCovered() {
+        User student = fixtures.student("mixed");
+        asset = fixtures.availableAsset("Microscope", "Lab", 1);
+        Long windowed = createWindowed(student, 9, 11);
+        Long openEnded = fixtures.track(requestService.createRequest(fixtures.request(student, asset)));
+
+        requestService.updateRequestStatus(windowed, "APPROVED", null);
+        // The only unit is booked for a future window, so it cannot be taken until further notice
+        assertThrows(AssetUnavailableException.class,
+                () -> requestService.updateRequestStatus(openEnded, "APPROVED", null));
+        assertEquals(1, assetRepository.findById(asset.getId()).orElseThrow().getQuantity());
+
+        // Once the window is given up, the open-ended request gets the unit and later windows are refused
+        requestService.updateRequestStatus(windowed, "REJECTED", null);
+        requestService.updateRequestStatus(openEnded, "APPROVED", null);
+        Long later = createWindowed(student, 13, 14);
+        assertThrows(AssetUnavailableException.class,
+                () -> requestService.updateRequestStatus(later, "APPROVED", null));
+    }
+
+    private Long createWindowed(User student, int startHour, int endHour) {
+        Request request = fixtures.request(student, asset);
+        request.setStartTime(Date.from(DAY.plusSeconds(startHour * 3600L)));
+        request.setEndTime(Date.from(DAY.plusSeconds(endHour * 3600L)));
+        return fixtures.track(requestService.createRequest(request));
+    }
+
+    private long approvedForAsset() {
+        return requestRepository.findByStatus("APPROVED").stream()
+                .filter(r -> r.getAsset().getId().equals(asset.getId()))
+                .count();
+    }
+
+    // Approves every request in requestIds from THREADS threads at once; returns how many went through
+    private int approveConcurrently() throws Exception {
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long requestId : requestIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    requestService.updateRequestStatus(requestId, "APPROVED", null);
+                    approved.incrementAndGet();
+                } catch (AssetUnavailableException | ObjectOptimisticLockingFailureException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(REQUESTS, approved.get() + conflicts.get());
+        return approved.get();
+    }
+}
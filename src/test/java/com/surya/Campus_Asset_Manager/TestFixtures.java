@@ -0,0 +1,94 @@
+package com.surya.Campus_Asset_Manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.surya.Campus_Asset_Manager.Model.Asset;
+import com.surya.Campus_Asset_Manager.Model.Request;
+import com.surya.Campus_Asset_Manager.Model.Role;
+import com.surya.Campus_Asset_Manager.Model.User;
+import com.surya.Campus_Asset_Manager.Repository.AssetRepository;
+import com.surya.Campus_Asset_Manager.Repository.RequestRepository;
+import com.surya.Campus_Asset_Manager.Repository.UserRepository;
+
+// Users, assets and requests for the Spring Boot tests. Everything created or tracked here is deleted by
+// cleanUp(), so tests sharing the in-memory database and context leave no rows behind for the next one.
+@Component
+public class TestFixtures {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private RequestRepository requestRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private final List<Long> userIds = new ArrayList<>();
+    private final List<Long> assetIds = new ArrayList<>();
+    private final List<Long> requestIds = new ArrayList<>();
+
+    // Usernames are unique, so each call gets a fresh one starting with prefix
+    public User student(String prefix) {
+        return save(prefix, "unused");
+    }
+
+    // A student who can sign in with the given password
+    public User student(String prefix, String password) {
+        return save(prefix, passwordEncoder.encode(password));
+    }
+
+    private User save(String prefix, String encodedPassword) {
+        User student = new User();
+        student.setUsername(prefix + "-" + UUID.randomUUID());
+        student.setPassword(encodedPassword);
+        student.setRole(Role.STUDENT);
+        student = userRepository.save(student);
+        userIds.add(student.getId());
+        return student;
+    }
+
+    public Asset availableAsset(String name, String type, int quantity) {
+        Asset asset = new Asset();
+        asset.setName(name);
+        asset.setType(type);
+        asset.setQuantity(quantity);
+        asset.setStatus("AVAILABLE");
+        asset = assetRepository.save(asset);
+        assetIds.add(asset.getId());
+        return asset;
+    }
+
+    // An unsaved request for the service under test to create
+    public Request request(User user, Asset asset) {
+        Request request = new Request();
+        request.setUser(user);
+        request.setAsset(asset);
+        return request;
+    }
+
+    // Registers a request created elsewhere for deletion and returns its id
+    public Long track(Request request) {
+        requestIds.add(request.getId());
+        return request.getId();
+    }
+
+    // Requests first, since they reference the assets and users
+    public void cleanUp() {
+        requestRepository.deleteAllById(requestIds);
+        assetRepository.deleteAllById(assetIds);
+        userRepository.deleteAllById(userIds);
+        requestIds.clear();
+        assetIds.clear();
+        userIds.clear();
+    }
+}